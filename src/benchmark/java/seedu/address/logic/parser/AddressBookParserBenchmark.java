@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import java.util.List;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how long {@link AddressBookParser#parseCommand} takes to parse typical user input.
+ * Every input is parsed in full, as the parser measured has its {@link ParsedCommandCache} disabled. The time taken
+ * to look an input up in the cache is printed alongside for comparison.
+ * Run with {@code gradlew parserBenchmark}. It is not run as part of the tests, as timings vary between machines.
+ */
+public class AddressBookParserBenchmark {
+
+    private static final List<String> INPUTS = List.of(
+            "add n:John Doe p:98765432 e:johnd@example.com t:student u:@johndoe s:G01",
+            "delete 1 3 5",
+            "rm n:John Doe",
+            "find alex david",
+            "listsession G01",
+            "list",
+            "undo");
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 1_000_000;
+
+    /** Accumulates the parsed commands, and is printed so that the parses cannot be optimized away. */
+    private static long checksum;
+
+    /**
+     * Parses each input repeatedly and prints the average time taken per parse, and per cached lookup.
+     */
+    public static void main(String[] args) throws ParseException {
+        AddressBookParser parser = new AddressBookParser(AddressBookParser.createDefaultCommandRegistry(),
+                new ParsedCommandCache(0));
+        AddressBookParser cachingParser = new AddressBookParser();
+        for (String input : INPUTS) {
+            parse(parser, input, WARMUP_ROUNDS);
+            parse(cachingParser, input, WARMUP_ROUNDS);
+            double nanosPerParse = time(parser, input);
+            double nanosPerCachedParse = time(cachingParser, input);
+            System.out.printf("%8.1f ns/parse  %8.1f ns/cached parse  %s%n", nanosPerParse, nanosPerCachedParse,
+                    input);
+        }
+        System.out.println("checksum: " + checksum);
+    }
+
+    private static double time(AddressBookParser parser, String input) throws ParseException {
+        long start = System.nanoTime();
+        parse(parser, input, MEASURED_ROUNDS);
+        return (double) (System.nanoTime() - start) / MEASURED_ROUNDS;
+    }
+
+    private static void parse(AddressBookParser parser, String input, int rounds) throws ParseException {
+        for (int i = 0; i < rounds; i++) {
+            Command command = parser.parseCommand(input);
+            checksum += command.hashCode();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Measures how long the validators of the person fields take, against matching the same values with
+ * {@link String#matches(String)} on their validation regexes, as the validators used to.
+ * Run with {@code gradlew validatorBenchmark}. It is not run as part of the tests, as timings vary between machines.
+ */
+public class ValidatorBenchmark {
+
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURED_ROUNDS = 1_000_000;
+
+    /**
+     * Validates typical values of each field repeatedly and prints the average time taken per value.
+     */
+    public static void main(String[] args) {
+        long checksum = 0;
+        checksum += compare("name", List.of("John Doe", "Mary-Jane O'Brien", "J. R. R. Tolkien", "Alice1"),
+                Name.VALIDATION_REGEX, Name::isValidName);
+        checksum += compare("phone", List.of("98765432", "91234567", "9123456a"),
+                Phone.VALIDATION_REGEX, Phone::isValidPhone);
+        checksum += compare("email", List.of("johnd@example.com", "first.last+tag@mail.nus.edu.sg", "john@example"),
+                Email.VALIDATION_REGEX, Email::isValidEmail);
+        checksum += compare("type", List.of("student", "TA", "Instructor", "tutor"),
+                Type.VALIDATION_REGEX, Type::isValidType);
+        checksum += compare("session", List.of("G01", "T07B", "AB12", "G00"),
+                Session.VALIDATION_REGEX, Session::isValidSession);
+        checksum += compare("telegram", List.of("@johndoe", "alex_yeoh", "@abc"),
+                TelegramUsername.VALIDATION_REGEX, TelegramUsername::isValidTelegramUsername);
+        // printed so that the validations cannot be optimized away
+        System.out.println("checksum: " + checksum);
+    }
+
+    private static long compare(String field, List<String> values, String regex, Predicate<String> validator) {
+        Predicate<String> regexValidator = value -> value.matches(regex);
+        long checksum = validate(regexValidator, values, WARMUP_ROUNDS) + validate(validator, values, WARMUP_ROUNDS);
+
+        long start = System.nanoTime();
+        checksum += validate(regexValidator, values, MEASURED_ROUNDS);
+        double regexNanos = (double) (System.nanoTime() - start) / MEASURED_ROUNDS / values.size();
+
+        start = System.nanoTime();
+        checksum += validate(validator, values, MEASURED_ROUNDS);
+        double validatorNanos = (double) (System.nanoTime() - start) / MEASURED_ROUNDS / values.size();
+
+        System.out.printf("%-8s  regex %8.1f ns/value  validator %8.1f ns/value%n", field, regexNanos, validatorNanos);
+        return checksum;
+    }
+
+    private static long validate(Predicate<String> validator, List<String> values, int rounds) {
+        long checksum = 0;
+        for (int i = 0; i < rounds; i++) {
+            for (String value : values) {
+                if (validator.test(value)) {
+                    checksum++;
+                }
+            }
+        }
+        return checksum;
+    }
+}
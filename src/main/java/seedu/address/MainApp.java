@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -19,11 +20,9 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -57,10 +56,13 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(
+                userPrefs.getAddressBookFormat(), userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        // the address book is loaded in the background once the window is up, see #start(Stage)
+        model = new ModelManager(new AddressBook(), userPrefs);
 
         logic = new LogicManager(model, storage);
 
@@ -68,13 +70,11 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns the address book in {@code storage}. <br>
+     * The sample address book will be returned instead if {@code storage}'s address book is not found,
+     * or an empty address book if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
+    private static ReadOnlyAddressBook readAddressBook(Storage storage) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -90,7 +90,7 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -171,6 +171,8 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        // started first, so that the window comes up in its loading state while the data file is read
+        logic.loadAddressBook(() -> readAddressBook(storage), Platform::runLater);
         ui.start(primaryStage);
     }
 
@@ -182,5 +184,34 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        flushAddressBook();
+        try {
+            // leaves the data file current, so that it can be copied or edited while the app is closed
+            storage.compactAddressBook();
+        } catch (IOException e) {
+            logger.warning("Failed to compact address book " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.closeAddressBook();
+        } catch (IOException e) {
+            logger.warning("Failed to close address book " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Waits for pending background saves of the address book to be written.
+     * If the latest one failed, tries once more to save the current address book before exiting.
+     */
+    private void flushAddressBook() {
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.warning("Background save failed, retrying before exit " + StringUtil.getDetails(e));
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException retryException) {
+                logger.severe("Failed to save address book " + StringUtil.getDetails(retryException));
+            }
+        }
     }
 }
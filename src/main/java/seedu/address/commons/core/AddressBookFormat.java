@@ -0,0 +1,52 @@
+package seedu.address.commons.core;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * The file formats the address book can be stored in.
+ */
+public enum AddressBookFormat {
+    JSON("json", ".json"),
+    BINARY("binary", ".bin"),
+    SHARDED("sharded", ".shards"),
+    SQL("sql", ".db");
+
+    private final String keyword;
+    private final String fileExtension;
+
+    AddressBookFormat(String keyword, String fileExtension) {
+        this.keyword = keyword;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format named by {@code keyword}, ignoring case.
+     */
+    public static Optional<AddressBookFormat> fromKeyword(String keyword) {
+        for (AddressBookFormat format : values()) {
+            if (format.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns {@code filePath} with its file extension replaced by the one of this format.
+     */
+    public Path withFileExtension(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + fileExtension);
+    }
+}
@@ -1,16 +1,24 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_EXTENSION = ".tmp";
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(Path file) {
@@ -73,11 +81,108 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, replacing it atomically as in {@link #writeToFileAtomically}.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        writeToFileAtomically(file, channel -> {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+    }
+
+    /**
+     * Writes a file through {@code writer}, replacing its previous content only once the new content is complete.
+     * The content is written to a temporary file next to {@code file} and synced to disk, and the temporary file is
+     * then renamed to {@code file}. A crash at any point leaves either the previous or the new content in place.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer) throws IOException {
+        replaceFile(file, writer, null);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically}, but keeps a copy of the previous content of {@code file}, if any, at
+     * {@link #getBackupFilePath} instead of discarding it.
+     * The copy is made before the new content is renamed over {@code file}, so {@code file} is present throughout.
+     */
+    public static void writeToFileKeepingBackup(Path file, ContentWriter writer) throws IOException {
+        replaceFile(file, writer, getBackupFilePath(file));
+    }
+
+    /**
+     * Returns the path that {@link #writeToFileKeepingBackup} keeps the previous content of {@code file} at.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_EXTENSION);
+    }
+
+    /**
+     * Syncs the entries of {@code directory} to disk, such as files just created in or renamed into it.
+     * Does nothing on platforms that cannot open a directory for syncing.
+     */
+    public static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened on some platforms, such as Windows, which sync renames on their own
+        }
+    }
+
+    private static void replaceFile(Path file, ContentWriter writer, Path backupFile) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_EXTENSION);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writer.writeTo(channel);
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (backupFile != null && Files.exists(file)) {
+            copyAtomically(file, backupFile);
+        }
+        moveAtomically(tempFile, file);
+        syncDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Copies {@code source} to {@code target} through a temporary file, so that {@code target} is never left
+     * partially written.
+     */
+    private static void copyAtomically(Path source, Path target) throws IOException {
+        Path tempFile = target.resolveSibling(target.getFileName() + TEMP_FILE_EXTENSION);
+        try {
+            Files.copy(source, tempFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        moveAtomically(tempFile, target);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code channel}, which is positioned at the start of an empty file.
+         * The channel is closed by the caller.
+         */
+        void writeTo(FileChannel channel) throws IOException;
     }
 
 }
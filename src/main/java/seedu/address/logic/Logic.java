@@ -1,7 +1,11 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -23,6 +27,24 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Loads the address book given by {@code loader} on a background thread, and adds its persons to the model in
+     * batches through {@code modelExecutor}, which must run tasks in order on the thread that executes commands.
+     * Commands executed until loading completes are queued, and run in order once it does.
+     */
+    void loadAddressBook(Supplier<? extends ReadOnlyAddressBook> loader, Executor modelExecutor);
+
+    /**
+     * Returns a property that is true while the address book is being loaded.
+     */
+    ReadOnlyBooleanProperty loadingProperty();
+
+    /**
+     * Sets the handler that is given the result of each command queued while the address book was loading, once
+     * that command has run. A queued command that fails gives a result holding its error message.
+     */
+    void setQueuedCommandResultHandler(Consumer<CommandResult> queuedCommandResultHandler);
+
     /**
      * Exports the currently displayed contacts to a fixed CSV location.
      *
@@ -31,6 +53,12 @@ public interface Logic {
      */
     CommandResult exportDisplayedContacts() throws CommandException;
 
+    /**
+     * Sets the handler that is given an error message whenever saving the address book in the background fails.
+     * The handler is called on the background thread that attempted the save.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the AddressBook.
      *
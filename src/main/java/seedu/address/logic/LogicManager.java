@@ -1,13 +1,26 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ExportCommand;
@@ -15,9 +28,10 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.undo.UndoHistory;
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -30,12 +44,32 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_COMMAND_QUEUED =
+            "Contacts are still loading. This command will run once they are loaded.";
+
+    public static final String MESSAGE_STILL_LOADING =
+            "Contacts are still loading. Please try again once they are loaded.";
+
+    /** Number of loaded persons added to the model at a time, so that the UI stays responsive in between. */
+    static final int LOADING_BATCH_SIZE = 500;
+
+    private static final long NO_SAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** Version of the address book that was last saved, or {@code NO_SAVED_VERSION} if none was saved yet. */
+    private volatile long lastSavedVersion = NO_SAVED_VERSION;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+
+    // only used on the thread that executes commands
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(false);
+    private final Queue<Command> queuedCommands = new ArrayDeque<>();
+    private Consumer<CommandResult> queuedCommandResultHandler = result -> { };
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -49,38 +83,173 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (loading.get()) {
+            queuedCommands.add(command);
+            return new CommandResult(MESSAGE_COMMAND_QUEUED);
+        }
+        return execute(command);
+    }
+
+    private CommandResult execute(Command command) throws CommandException {
+        CommandResult commandResult;
+        Path filePathBefore = model.getAddressBookFilePath();
+        AddressBookFormat formatBefore = model.getUserPrefs().getAddressBookFormat();
+        commandResult = command.execute(model);
 
-        ReadOnlyAddressBook previousState = null;
         if (command.isStateChanging()) {
-            previousState = new AddressBook(model.getAddressBook());
+            UndoHistory.record(command.getUndoAction(), determineUndoLabel(command));
         }
 
-        commandResult = command.execute(model);
+        if (!model.getAddressBookFilePath().equals(filePathBefore)
+                || model.getUserPrefs().getAddressBookFormat() != formatBefore) {
+            moveAddressBookFile(filePathBefore, formatBefore);
+        }
+        saveAddressBookIfChanged();
+
+        return commandResult;
+    }
 
-        if (command.isStateChanging() && previousState != null) {
-            UndoHistory.recordState(previousState, determineUndoLabel(command));
+    @Override
+    public void loadAddressBook(Supplier<? extends ReadOnlyAddressBook> loader, Executor modelExecutor) {
+        requireAllNonNull(loader, modelExecutor);
+        loading.set(true);
+
+        Thread thread = new Thread(() -> {
+            try {
+                List<Person> persons = List.copyOf(loader.get().getPersonList());
+                logger.info("Loaded " + persons.size() + " persons, adding them to the model");
+                for (int from = 0; from < persons.size(); from += LOADING_BATCH_SIZE) {
+                    List<Person> batch = persons.subList(from, Math.min(from + LOADING_BATCH_SIZE, persons.size()));
+                    modelExecutor.execute(() -> model.addPersons(batch));
+                }
+            } catch (RuntimeException e) {
+                logger.severe("Failed to load address book " + StringUtil.getDetails(e));
+            } finally {
+                // queued commands must run even if loading failed
+                modelExecutor.execute(this::finishLoading);
+            }
+        }, "address-book-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Ends loading, and runs the commands queued in the meantime.
+     */
+    private void finishLoading() {
+        loading.set(false);
+        while (!queuedCommands.isEmpty()) {
+            Command command = queuedCommands.remove();
+            CommandResult commandResult;
+            try {
+                commandResult = execute(command);
+            } catch (CommandException e) {
+                logger.info("An error occurred while executing queued command: " + e.getMessage());
+                commandResult = new CommandResult(e.getMessage());
+            }
+            queuedCommandResultHandler.accept(commandResult);
         }
+    }
+
+    /**
+     * Makes storage use the data file in the user prefs, and writes all of the address book to it straight away.
+     * The user prefs are only saved once the new file is written, so that the next launch never reads a data file
+     * that does not exist yet. If the new file cannot be written, storage and the user prefs are switched back to the
+     * previous data file.
+     *
+     * @throws CommandException if the address book could not be written to the new file.
+     */
+    private void moveAddressBookFile(Path previousFilePath, AddressBookFormat previousFormat)
+            throws CommandException {
+        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+        logger.info("Moving data file to " + userPrefs.getAddressBookFilePath()
+                + " in " + userPrefs.getAddressBookFormat() + " format");
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            // lets saves requested earlier reach the previous file, rather than overwrite the new one later
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            // already reported when it failed, and the data is written to the new file below anyway
+            logger.info("Previous background save had failed " + StringUtil.getDetails(e));
         }
 
-        return commandResult;
+        storage.setAddressBookFile(userPrefs.getAddressBookFilePath(), userPrefs.getAddressBookFormat());
+        try {
+            long version = model.getAddressBookVersion();
+            storage.saveAddressBook(model.getAddressBookSnapshot());
+            lastSavedVersion = version;
+        } catch (IOException e) {
+            logger.warning("Failed to write new data file, keeping " + previousFilePath + " "
+                    + StringUtil.getDetails(e));
+            storage.setAddressBookFile(previousFilePath, previousFormat);
+            UserPrefs previousUserPrefs = new UserPrefs(userPrefs);
+            previousUserPrefs.setAddressBookFilePath(previousFilePath);
+            previousUserPrefs.setAddressBookFormat(previousFormat);
+            model.setUserPrefs(previousUserPrefs);
+            throw new CommandException(e instanceof AccessDeniedException
+                    ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                    : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()), e);
+        }
+
+        try {
+            storage.saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save user prefs " + StringUtil.getDetails(e));
+            saveFailureHandler.accept(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()));
+        }
+    }
+
+    /**
+     * Saves the address book in the background unless it is unchanged since it was last saved.
+     * The first call always saves, as the data the model started with may not be on disk yet (e.g. sample data).
+     */
+    private void saveAddressBookIfChanged() {
+        long version = model.getAddressBookVersion();
+        if (version == lastSavedVersion) {
+            return;
+        }
+
+        // recorded before the save is requested, so that a failure reported straight away is not overwritten
+        lastSavedVersion = version;
+        storage.saveAddressBookInBackground(model.getAddressBookSnapshot(), this::handleSaveFailure);
+    }
+
+    private void handleSaveFailure(IOException e) {
+        // make the next command save again, whatever has changed since
+        lastSavedVersion = NO_SAVED_VERSION;
+
+        String message = e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+        saveFailureHandler.accept(message);
     }
 
     @Override
     public CommandResult exportDisplayedContacts() throws CommandException {
         logger.info("----------------[EXPORT CONTACTS VIA BUTTON]");
+        if (loading.get()) {
+            throw new CommandException(MESSAGE_STILL_LOADING);
+        }
         Command exportCommand = new ExportCommand();
         return exportCommand.execute(model);
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        this.saveFailureHandler = requireNonNull(saveFailureHandler);
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading.getReadOnlyProperty();
+    }
+
+    @Override
+    public void setQueuedCommandResultHandler(Consumer<CommandResult> queuedCommandResultHandler) {
+        this.queuedCommandResultHandler = requireNonNull(queuedCommandResultHandler);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -104,6 +104,7 @@ public class AddCommand extends Command {
         }
 
         model.addPerson(toAdd);
+        setUndoAction(undoModel -> undoModel.deletePerson(toAdd));
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * Clears the address book.
@@ -17,7 +18,9 @@ public class ClearCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        ReadOnlyAddressBook previousAddressBook = model.getAddressBookSnapshot();
         model.setAddressBook(new AddressBook());
+        setUndoAction(undoModel -> undoModel.setAddressBook(previousAddressBook));
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.undo.UndoAction;
 import seedu.address.model.Model;
 
 /**
@@ -9,6 +10,7 @@ import seedu.address.model.Model;
 public abstract class Command {
 
     private String undoLabel;
+    private UndoAction undoAction;
 
     /**
      * Executes the command and returns the result message.
@@ -21,7 +23,8 @@ public abstract class Command {
 
     /**
      * Returns {@code true} if this command mutates the underlying address book.
-     * Commands should override this when they modify stored data so that undo history can be recorded.
+     * Commands should override this when they modify stored data so that undo history can be recorded,
+     * and set an {@link UndoAction} reverting their changes on every successful execution.
      */
     public boolean isStateChanging() {
         return false;
@@ -41,4 +44,19 @@ public abstract class Command {
         return undoLabel;
     }
 
+    /**
+     * Sets the action that reverts the changes made by the latest execution of this command.
+     */
+    protected void setUndoAction(UndoAction undoAction) {
+        this.undoAction = undoAction;
+    }
+
+    /**
+     * Returns the action that reverts the changes made by the latest execution of this command,
+     * or {@code null} if the command has not changed any data.
+     */
+    public UndoAction getUndoAction() {
+        return undoAction;
+    }
+
 }
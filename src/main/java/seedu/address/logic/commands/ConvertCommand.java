@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Switches the data file to another format.
+ * The data is written to a file next to the current one, named after the new format, and saved there from then on.
+ * The current file is left untouched.
+ */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Converts the data file to the given format "
+            + "and saves data in that format from now on.\n"
+            + "Parameters: FORMAT (json, binary, sharded or sql)\n"
+            + "Example: " + COMMAND_WORD + " binary";
+
+    public static final String MESSAGE_SUCCESS = "Data is now saved in %1$s format to %2$s. The previous data file "
+            + "%3$s is kept as a backup.";
+    public static final String MESSAGE_ALREADY_IN_FORMAT = "Data is already saved in %1$s format.";
+
+    private final AddressBookFormat targetFormat;
+
+    /**
+     * Creates a ConvertCommand to switch the data file to {@code targetFormat}.
+     */
+    public ConvertCommand(AddressBookFormat targetFormat) {
+        requireNonNull(targetFormat);
+        this.targetFormat = targetFormat;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+        if (userPrefs.getAddressBookFormat() == targetFormat) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_IN_FORMAT, targetFormat.getKeyword()));
+        }
+
+        // the data is written to the new file once this command has run, before the user prefs are saved
+        Path sourcePath = userPrefs.getAddressBookFilePath();
+        Path targetPath = targetFormat.withFileExtension(sourcePath);
+        UserPrefs updatedUserPrefs = new UserPrefs(userPrefs);
+        updatedUserPrefs.setAddressBookFormat(targetFormat);
+        updatedUserPrefs.setAddressBookFilePath(targetPath);
+        model.setUserPrefs(updatedUserPrefs);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, targetFormat.getKeyword(), targetPath, sourcePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConvertCommand)) {
+            return false;
+        }
+
+        ConvertCommand otherConvertCommand = (ConvertCommand) other;
+        return targetFormat == otherConvertCommand.targetFormat;
+    }
+
+    @Override
+    public int hashCode() {
+        return targetFormat.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetFormat", targetFormat)
+                .toString();
+    }
+}
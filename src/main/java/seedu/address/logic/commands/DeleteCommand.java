@@ -1,13 +1,19 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
@@ -57,22 +63,53 @@ public class DeleteCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
+        if (selectors.size() == 1 && selectors.get(0).isIndex()) {
+            Selector selector = selectors.get(0);
+            List<Person> personsInRange = mapRangeToPersons(selector.getIndex(), selector.getEndIndex(), lastShownList);
+            int fromIndex = model.getAddressBookIndex(selector.getIndex().getZeroBased());
+            int toIndex = model.getAddressBookIndex(selector.getEndIndex().getZeroBased()) + 1;
+            if (toIndex - fromIndex == personsInRange.size()) {
+                return deleteContiguousRange(model, fromIndex, toIndex, List.copyOf(personsInRange));
+            }
+        }
+        Map<Name, List<Person>> lastShownPersonsByName = null;
 
         List<Person> personsToDelete = new ArrayList<>();
         for (Selector selector : selectors) {
             if (selector.isIndex()) {
-                personsToDelete.add(mapIndexToPerson(selector.getIndex(), lastShownList));
+                personsToDelete.addAll(mapRangeToPersons(selector.getIndex(), selector.getEndIndex(), lastShownList));
                 continue;
             }
 
-            personsToDelete.addAll(mapNameToPersons(selector.getName(), lastShownList));
+            if (lastShownPersonsByName == null) {
+                lastShownPersonsByName = groupByName(lastShownList);
+            }
+            personsToDelete.addAll(mapNameToPersons(selector.getName(), lastShownPersonsByName));
         }
 
         Set<Person> uniquePersonsToDelete = new LinkedHashSet<>(personsToDelete);
-        uniquePersonsToDelete.forEach(model::deletePerson);
+        NavigableMap<Integer, Person> deletedPersonsByPosition =
+                mapPersonsToPositions(uniquePersonsToDelete, model.getAddressBook().getPersonList());
+        model.deletePersons(uniquePersonsToDelete);
+        // reinserting in ascending order of position puts every person back where it was
+        setUndoAction(undoModel -> deletedPersonsByPosition.forEach(undoModel::insertPerson));
         return new CommandResult(buildSuccessMessage(uniquePersonsToDelete));
     }
 
+    /**
+     * Deletes {@code personsInRange}, which sit from {@code fromIndex} inclusive to {@code toIndex} exclusive of the
+     * address book, as one sublist, so that neither the selected persons nor the rest of the address book is scanned.
+     */
+    private CommandResult deleteContiguousRange(Model model, int fromIndex, int toIndex, List<Person> personsInRange) {
+        model.deletePersonRange(fromIndex, toIndex);
+        setUndoAction(undoModel -> {
+            for (int i = 0; i < personsInRange.size(); i++) {
+                undoModel.insertPerson(fromIndex + i, personsInRange.get(i));
+            }
+        });
+        return new CommandResult(buildSuccessMessage(personsInRange));
+    }
+
     @Override
     public boolean isStateChanging() {
         return true;
@@ -100,25 +137,55 @@ public class DeleteCommand extends Command {
                 .toString();
     }
 
-    private Person mapIndexToPerson(Index targetIndex, List<Person> lastShownList) throws CommandException {
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+    /**
+     * Returns the displayed persons from {@code startIndex} to {@code endIndex} inclusive, as a view of
+     * {@code lastShownList}, after checking the whole range against the size of the list.
+     */
+    private List<Person> mapRangeToPersons(Index startIndex, Index endIndex, List<Person> lastShownList)
+            throws CommandException {
+        if (endIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
-        return lastShownList.get(targetIndex.getZeroBased());
+        return lastShownList.subList(startIndex.getZeroBased(), endIndex.getZeroBased() + 1);
     }
 
-    private Collection<Person> mapNameToPersons(Name name, List<Person> lastShownList) throws CommandException {
-        List<Person> matchedPersons = lastShownList.stream()
-                .filter(person -> person.getName().equals(name))
-                .collect(Collectors.toList());
+    private Collection<Person> mapNameToPersons(Name name, Map<Name, List<Person>> lastShownPersonsByName)
+            throws CommandException {
+        List<Person> matchedPersons = lastShownPersonsByName.get(name);
 
-        if (matchedPersons.isEmpty()) {
+        if (matchedPersons == null) {
             throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND_BY_NAME, name));
         }
 
         return matchedPersons;
     }
 
+    /**
+     * Groups the displayed persons by their exact name in a single pass,
+     * so that every name selector can then be resolved without going through the displayed list again.
+     */
+    private static Map<Name, List<Person>> groupByName(List<Person> lastShownList) {
+        Map<Name, List<Person>> personsByName = new HashMap<>();
+        for (Person person : lastShownList) {
+            personsByName.computeIfAbsent(person.getName(), unused -> new ArrayList<>()).add(person);
+        }
+        return personsByName;
+    }
+
+    /**
+     * Returns the position of each of {@code persons} in {@code allPersons}, ordered by position.
+     */
+    private static NavigableMap<Integer, Person> mapPersonsToPositions(Set<Person> persons, List<Person> allPersons) {
+        NavigableMap<Integer, Person> personsByPosition = new TreeMap<>();
+        for (int i = 0; i < allPersons.size() && personsByPosition.size() < persons.size(); i++) {
+            Person person = allPersons.get(i);
+            if (persons.contains(person)) {
+                personsByPosition.put(i, person);
+            }
+        }
+        return personsByPosition;
+    }
+
     private String buildSuccessMessage(Collection<Person> personsToDelete) {
         if (personsToDelete.size() == 1) {
             Person person = personsToDelete.iterator().next();
@@ -134,13 +201,16 @@ public class DeleteCommand extends Command {
 
     /**
      * Represents a selector used to identify persons targeted by {@code DeleteCommand}.
+     * An index selector covers an inclusive range of displayed indexes; a single index is a range of one.
      */
     public static class Selector {
         private final Index index;
+        private final Index endIndex;
         private final Name name;
 
-        private Selector(Index index, Name name) {
+        private Selector(Index index, Index endIndex, Name name) {
             this.index = index;
+            this.endIndex = endIndex;
             this.name = name;
         }
 
@@ -149,7 +219,18 @@ public class DeleteCommand extends Command {
          */
         public static Selector fromIndex(Index index) {
             requireNonNull(index);
-            return new Selector(index, null);
+            return new Selector(index, index, null);
+        }
+
+        /**
+         * Creates an index selector covering {@code startIndex} to {@code endIndex} inclusive.
+         *
+         * @throws IllegalArgumentException if {@code startIndex} is after {@code endIndex}.
+         */
+        public static Selector fromRange(Index startIndex, Index endIndex) {
+            requireAllNonNull(startIndex, endIndex);
+            checkArgument(startIndex.getZeroBased() <= endIndex.getZeroBased(), "range cannot be inverted");
+            return new Selector(startIndex, endIndex, null);
         }
 
         /**
@@ -157,17 +238,27 @@ public class DeleteCommand extends Command {
          */
         public static Selector fromName(Name name) {
             requireNonNull(name);
-            return new Selector(null, name);
+            return new Selector(null, null, name);
         }
 
         public boolean isIndex() {
             return index != null;
         }
 
+        /**
+         * Returns the index of this selector, or the first index of its range.
+         */
         public Index getIndex() {
             return index;
         }
 
+        /**
+         * Returns the last index of the range of this selector.
+         */
+        public Index getEndIndex() {
+            return endIndex;
+        }
+
         public Name getName() {
             return name;
         }
@@ -184,18 +275,20 @@ public class DeleteCommand extends Command {
 
             Selector otherSelector = (Selector) other;
             return Objects.equals(index, otherSelector.index)
+                    && Objects.equals(endIndex, otherSelector.endIndex)
                     && Objects.equals(name, otherSelector.name);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(index, name);
+            return Objects.hash(index, endIndex, name);
         }
 
         @Override
         public String toString() {
             return new ToStringBuilder(this)
                     .add("index", index)
+                    .add("endIndex", endIndex)
                     .add("name", name)
                     .toString();
         }
@@ -2,12 +2,16 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyNameTrigramIndex;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
@@ -33,7 +37,7 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(predicate, findMatchingPersons(model));
         List<Person> filteredPersons = model.getFilteredPersonList();
         if (filteredPersons.isEmpty()) {
             return new CommandResult(String.format(Messages.MESSAGE_FIND_NO_MATCH, getDisplayKeyword()));
@@ -74,6 +78,22 @@ public class FindCommand extends Command {
                 .toString();
     }
 
+    /**
+     * Returns the persons matching {@code predicate}, checking only the candidates that the name trigram index
+     * returns for each keyword instead of every person.
+     */
+    private Set<Person> findMatchingPersons(Model model) {
+        ReadOnlyNameTrigramIndex nameTrigramIndex = model.getAddressBook().getNameTrigramIndex();
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        predicate.getKeywords().stream()
+                .map(String::trim)
+                .filter(keyword -> !keyword.isEmpty())
+                .flatMap(keyword -> nameTrigramIndex.getCandidates(keyword).stream())
+                .filter(predicate)
+                .forEach(matchingPersons::add);
+        return matchingPersons;
+    }
+
     private String getDisplayKeyword() {
         return predicate.getKeywords().stream()
                 .map(String::trim)
@@ -2,9 +2,14 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
 import seedu.address.model.person.SessionMatchPredicate;
 
 /**
@@ -14,10 +19,10 @@ public class ListSessionCommand extends Command {
 
     public static final String COMMAND_WORD = "listsession";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons whose session equals the "
-            + "specified session and displays them as a list with index numbers.\n"
-            + "Parameters: SESSION\n"
-            + "Example: " + COMMAND_WORD + " S1";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons whose session equals any of the "
+            + "specified sessions and displays them as a list with index numbers.\n"
+            + "Parameters: SESSION [MORE_SESSIONS]...\n"
+            + "Example: " + COMMAND_WORD + " S1 G2";
 
     private final SessionMatchPredicate predicate;
 
@@ -28,13 +33,17 @@ public class ListSessionCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        if (model.getFilteredPersonList().size() > 0) {
+        // Look the matching persons up in the session index rather than testing every person's session.
+        // The predicate still filters the persons that join the address book later.
+        Set<Person> matchedPersons = model.getAddressBook().getSessionIndex()
+                .getPersonsInSessions(predicate.getSessions());
+        model.updateFilteredPersonList(predicate, matchedPersons);
+        if (matchedPersons.size() > 0) {
             return new CommandResult(
-                    String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+                    String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matchedPersons.size()));
         } else {
             return new CommandResult(
-                    String.format(Messages.MESSAGE_SESSION_NOT_FOUND, predicate.getSession()));
+                    String.format(Messages.MESSAGE_SESSION_NOT_FOUND, getDisplaySessions()));
         }
     }
 
@@ -59,4 +68,10 @@ public class ListSessionCommand extends Command {
                 .add("predicate", predicate)
                 .toString();
     }
+
+    private String getDisplaySessions() {
+        return predicate.getSessions().stream()
+                .map(Session::toString)
+                .collect(Collectors.joining(" "));
+    }
 }
@@ -25,15 +25,16 @@ import seedu.address.model.person.Type;
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    private static final PrefixTrie PREFIXES = new PrefixTrie(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_TYPE, PREFIX_TELEGRAM, PREFIX_SESSION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
      * @throws ParseException if the user input does not conform to the expected format
      */
     public AddCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                        PREFIX_TYPE, PREFIX_TELEGRAM, PREFIX_SESSION);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         // Required fields: name, phone, email, type
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TYPE)
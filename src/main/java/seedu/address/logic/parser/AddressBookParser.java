@@ -3,14 +3,14 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportCommand;
@@ -24,14 +24,74 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The command word is looked up in a {@link CommandRegistry}, which holds a single parser for each command that is
+ * reused for every input. Commands parsed from recent inputs are kept in a {@link ParsedCommandCache}, so that
+ * entering the same input again skips parsing it.
  */
 public class AddressBookParser {
 
+    /** The characters that separate the command word from its arguments. */
+    private static final String COMMAND_WORD_SEPARATORS = " \t\n\u000B\f\r";
+
+    /** The characters that cannot appear in the arguments. */
+    private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
+
+    private static final CommandRegistry DEFAULT_COMMAND_REGISTRY = createDefaultCommandRegistry();
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    private final CommandRegistry commandRegistry;
+    private final ParsedCommandCache commandCache;
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an {@code AddressBookParser} that recognizes the commands of this app.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        this(DEFAULT_COMMAND_REGISTRY);
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} that recognizes the commands registered in {@code commandRegistry}.
+     */
+    public AddressBookParser(CommandRegistry commandRegistry) {
+        this(commandRegistry, new ParsedCommandCache(ParsedCommandCache.DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} that recognizes the commands registered in {@code commandRegistry}, and
+     * caches the commands it parses in {@code commandCache}.
+     */
+    public AddressBookParser(CommandRegistry commandRegistry, ParsedCommandCache commandCache) {
+        this.commandRegistry = commandRegistry;
+        this.commandCache = commandCache;
+    }
+
+    /**
+     * Returns a {@code CommandRegistry} holding the commands of this app.
+     * New commands are registered here, together with any aliases of their command word.
+     */
+    public static CommandRegistry createDefaultCommandRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(new AddCommandParser(), AddCommand.COMMAND_WORD);
+        registry.register(new DeleteCommandParser(), DeleteCommand.COMMAND_WORD, "del", "rm");
+        registry.register(arguments -> new ClearCommand(), ClearCommand.COMMAND_WORD);
+        registry.register(new FindCommandParser(), FindCommand.COMMAND_WORD);
+        registry.register(arguments -> new ListCommand(), ListCommand.COMMAND_WORD);
+        registry.register(new ListSessionCommandParser(), ListSessionCommand.COMMAND_WORD);
+        registry.register(arguments -> new ExportCommand(), ExportCommand.COMMAND_WORD);
+        registry.register(new ConvertCommandParser(), ConvertCommand.COMMAND_WORD);
+        registry.register(arguments -> new ExitCommand(), ExitCommand.COMMAND_WORD);
+        registry.register(arguments -> new HelpCommand(), HelpCommand.COMMAND_WORD);
+        registry.register(arguments -> new UndoCommand(), UndoCommand.COMMAND_WORD);
+        registry.register(arguments -> new SessionsCommand(), SessionsCommand.COMMAND_WORD);
+        return registry;
+    }
+
+    /**
+     * Returns the cache of parsed commands, whose hit and miss counts show how often inputs are repeated.
+     */
+    public ParsedCommandCache getCommandCache() {
+        return commandCache;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -41,75 +101,47 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        final String trimmedInput = userInput.trim();
+        Optional<Command> cachedCommand = commandCache.get(trimmedInput);
+        if (cachedCommand.isPresent()) {
+            return cachedCommand.get();
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length()
+                && COMMAND_WORD_SEPARATORS.indexOf(trimmedInput.charAt(commandWordEnd)) == -1) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
+        if (commandWord.isEmpty() || containsLineTerminator(arguments)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        Command command;
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            command = new AddCommandParser().parse(arguments);
-            break;
-
-        case DeleteCommand.COMMAND_WORD:
-        case "del":
-        case "rm":
-            command = new DeleteCommandParser().parse(arguments);
-            break;
-
-        case ClearCommand.COMMAND_WORD:
-            command = new ClearCommand();
-            break;
-
-        case FindCommand.COMMAND_WORD:
-            command = new FindCommandParser().parse(arguments);
-            break;
-
-        case ListCommand.COMMAND_WORD:
-            command = new ListCommand();
-            break;
-
-        case ListSessionCommand.COMMAND_WORD:
-            command = new ListSessionCommandParser().parse(arguments);
-            break;
-
-        case ExportCommand.COMMAND_WORD:
-            command = new ExportCommand();
-            break;
-
-        case ExitCommand.COMMAND_WORD:
-            command = new ExitCommand();
-            break;
-
-        case HelpCommand.COMMAND_WORD:
-            command = new HelpCommand();
-            break;
-
-        case UndoCommand.COMMAND_WORD:
-            command = new UndoCommand();
-            break;
-
-        case SessionsCommand.COMMAND_WORD:
-            command = new SessionsCommand();
-            break;
-
-        default:
+        Parser<? extends Command> parser = commandRegistry.getParser(commandWord).orElse(null);
+        if (parser == null) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
 
+        Command command = parser.parse(arguments);
         command.setUndoLabel(commandWord);
+        commandCache.put(trimmedInput, command);
         return command;
     }
 
+    private static boolean containsLineTerminator(String arguments) {
+        for (int i = 0; i < arguments.length(); i++) {
+            if (LINE_TERMINATORS.indexOf(arguments.charAt(i)) != -1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
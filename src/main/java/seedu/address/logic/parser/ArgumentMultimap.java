@@ -16,11 +16,15 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Values taken from an arguments string are kept as positions in it until they are asked for.
  */
 public class ArgumentMultimap {
 
+    /** The key of the preamble, the text before the first valid prefix. */
+    static final Prefix PREAMBLE_PREFIX = new Prefix("");
+
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<ArgumentValue>> argMultimap = new HashMap<>();
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -30,17 +34,32 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>()).add(new ArgumentValue(argValue));
+    }
+
+    /**
+     * Associates the text of {@code argsString} between {@code startPos} and {@code endPos}, with leading and
+     * trailing whitespaces discarded, with {@code prefix} key in this map.
+     */
+    void put(Prefix prefix, String argsString, int startPos, int endPos) {
+        int valueStartPos = startPos;
+        int valueEndPos = endPos;
+        while (valueStartPos < valueEndPos && argsString.charAt(valueStartPos) <= ' ') {
+            valueStartPos++;
+        }
+        while (valueEndPos > valueStartPos && argsString.charAt(valueEndPos - 1) <= ' ') {
+            valueEndPos--;
+        }
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>())
+                .add(new ArgumentValue(argsString, valueStartPos, valueEndPos));
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<ArgumentValue> values = argMultimap.get(prefix);
+        return values == null ? Optional.empty() : Optional.of(values.get(values.size() - 1).get());
     }
 
     /**
@@ -49,17 +68,18 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (ArgumentValue value : argMultimap.getOrDefault(prefix, List.of())) {
+            values.add(value.get());
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return values;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE_PREFIX).orElse("");
     }
 
     /**
@@ -75,4 +95,32 @@ public class ArgumentMultimap {
             throw new ParseException(Messages.getErrorMessageForDuplicatePrefixes(duplicatedPrefixes));
         }
     }
+
+    /**
+     * An argument value, cut out of the arguments string it was found in when it is first asked for.
+     */
+    private static class ArgumentValue {
+        private final String argsString;
+        private final int startPos;
+        private final int endPos;
+        private String value;
+
+        ArgumentValue(String value) {
+            this(value, 0, value.length());
+            this.value = value;
+        }
+
+        ArgumentValue(String argsString, int startPos, int endPos) {
+            this.argsString = argsString;
+            this.startPos = startPos;
+            this.endPos = endPos;
+        }
+
+        String get() {
+            if (value == null) {
+                value = argsString.substring(startPos, endPos);
+            }
+            return value;
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Maps command words, and their aliases, to the parsers of their commands.
+ * The parsers are shared by every command parsed with the registry, so they must not keep state between calls.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word already registered: %1$s";
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+
+    /**
+     * Registers {@code parser} to parse the arguments of the command named {@code commandWord}, or any of
+     * {@code aliases}.
+     *
+     * @throws IllegalArgumentException if any of the words is already registered.
+     */
+    public void register(Parser<? extends Command> parser, String commandWord, String... aliases) {
+        requireNonNull(parser);
+        requireNonNull(commandWord);
+        registerWord(commandWord, parser);
+        for (String alias : aliases) {
+            registerWord(alias, parser);
+        }
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, or {@code Optional.empty()} if there is none.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+
+    private void registerWord(String word, Parser<? extends Command> parser) {
+        requireNonNull(word);
+        if (parsers.putIfAbsent(word, parser) != null) {
+            throw new IllegalArgumentException(String.format(MESSAGE_DUPLICATE_COMMAND_WORD, word));
+        }
+    }
+}
@@ -16,6 +16,7 @@ import seedu.address.model.person.Name;
 public class DeleteCommandParser implements Parser<DeleteCommand> {
 
     private static final Prefix PREFIX_NAME = new Prefix("n:");
+    private static final PrefixTrie PREFIXES = new PrefixTrie(PREFIX_NAME);
     private static final String USAGE = seedu.address.logic.commands.DeleteCommand.MESSAGE_USAGE
             .replace("n/", "n:");
 
@@ -25,8 +26,7 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         List<Selector> selectors = new ArrayList<>();
 
@@ -68,9 +68,8 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
                 if (start.getOneBased() > end.getOneBased()) {
                     throw new ParseException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
                 }
-                for (int i = start.getOneBased(); i <= end.getOneBased(); i++) {
-                    selectors.add(Selector.fromIndex(Index.fromOneBased(i)));
-                }
+                // Kept as a single selector; it is checked against the displayed list when executed.
+                selectors.add(Selector.fromRange(start, end));
                 continue;
             }
 
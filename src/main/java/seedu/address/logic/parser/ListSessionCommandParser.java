@@ -3,6 +3,10 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_SESSION_FORMAT;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import seedu.address.logic.commands.ListSessionCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Session;
@@ -25,12 +29,14 @@ public class ListSessionCommandParser implements Parser<ListSessionCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListSessionCommand.MESSAGE_USAGE));
         }
 
-        if (!Session.isValidSession(trimmedArgs)) {
-            throw new ParseException(MESSAGE_INVALID_SESSION_FORMAT);
+        // Repeated sessions are only listed once.
+        Set<Session> sessions = new LinkedHashSet<>();
+        for (String sessionKeyword : trimmedArgs.split("\\s+")) {
+            sessions.add(Session.ofValid(sessionKeyword)
+                    .orElseThrow(() -> new ParseException(MESSAGE_INVALID_SESSION_FORMAT)));
         }
 
-        final Session session = new Session(trimmedArgs);
-        return new ListSessionCommand(new SessionMatchPredicate(session));
+        return new ListSessionCommand(new SessionMatchPredicate(List.copyOf(sessions)));
     }
 
 }
@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * A bounded cache of the commands parsed from recent inputs, which drops the least recently used input when full.
+ * The cache only holds commands that do not change data. Such commands are not changed by being executed, so the
+ * same instance can be executed again whenever its input is entered again.
+ */
+public class ParsedCommandCache {
+
+    public static final int DEFAULT_CAPACITY = 64;
+    public static final String MESSAGE_CONSTRAINTS = "Capacity of a parsed command cache cannot be negative.";
+
+    private final Map<String, Command> commands;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates a cache that holds the commands of at most {@code capacity} inputs.
+     * A capacity of 0 disables caching.
+     */
+    public ParsedCommandCache(int capacity) {
+        checkArgument(capacity >= 0, MESSAGE_CONSTRAINTS);
+        commands = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Command> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the command cached for {@code input}, or {@code Optional.empty()} if it has to be parsed.
+     */
+    public synchronized Optional<Command> get(String input) {
+        Command command = commands.get(input);
+        if (command == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return Optional.ofNullable(command);
+    }
+
+    /**
+     * Caches {@code command} as parsed from {@code input}, unless it changes data.
+     */
+    public synchronized void put(String input, Command command) {
+        if (!command.isStateChanging()) {
+            commands.put(input, command);
+        }
+    }
+
+    /**
+     * Returns the number of lookups that found a cached command.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached command.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+}
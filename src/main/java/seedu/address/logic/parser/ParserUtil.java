@@ -41,10 +41,7 @@ public class ParserUtil {
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
         String trimmedName = name.trim();
-        if (!Name.isValidName(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
-        }
-        return new Name(trimmedName);
+        return Name.ofValid(trimmedName).orElseThrow(() -> new ParseException(Name.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -56,10 +53,7 @@ public class ParserUtil {
     public static Phone parsePhone(String phone) throws ParseException {
         requireNonNull(phone);
         String trimmedPhone = phone.trim();
-        if (!Phone.isValidPhone(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        return new Phone(trimmedPhone);
+        return Phone.ofValid(trimmedPhone).orElseThrow(() -> new ParseException(Phone.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -71,10 +65,7 @@ public class ParserUtil {
     public static Email parseEmail(String email) throws ParseException {
         requireNonNull(email);
         String trimmedEmail = email.trim();
-        if (!Email.isValidEmail(trimmedEmail)) {
-            throw new ParseException(Email.MESSAGE_CONSTRAINTS);
-        }
-        return new Email(trimmedEmail);
+        return Email.ofValid(trimmedEmail).orElseThrow(() -> new ParseException(Email.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -86,10 +77,7 @@ public class ParserUtil {
     public static Type parseType(String type) throws ParseException {
         requireNonNull(type);
         String trimmedType = type.trim();
-        if (!Type.isValidType(trimmedType)) {
-            throw new ParseException(Type.MESSAGE_CONSTRAINTS);
-        }
-        return new Type(trimmedType);
+        return Type.ofValid(trimmedType).orElseThrow(() -> new ParseException(Type.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -101,10 +89,8 @@ public class ParserUtil {
     public static TelegramUsername parseTelegramUsername(String username) throws ParseException {
         requireNonNull(username);
         String trimmedUsername = username.trim();
-        if (!TelegramUsername.isValidTelegramUsername(trimmedUsername)) {
-            throw new ParseException(TelegramUsername.MESSAGE_CONSTRAINTS);
-        }
-        return new TelegramUsername(trimmedUsername);
+        return TelegramUsername.ofValid(trimmedUsername)
+                .orElseThrow(() -> new ParseException(TelegramUsername.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -116,9 +102,6 @@ public class ParserUtil {
     public static Session parseSession(String session) throws ParseException {
         requireNonNull(session);
         String trimmedSession = session.trim();
-        if (!Session.isValidSession(trimmedSession)) {
-            throw new ParseException(Session.MESSAGE_CONSTRAINTS);
-        }
-        return new Session(trimmedSession);
+        return Session.ofValid(trimmedSession).orElseThrow(() -> new ParseException(Session.MESSAGE_CONSTRAINTS));
     }
 }
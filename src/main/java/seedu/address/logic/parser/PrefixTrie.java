@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The prefixes recognized by {@link ArgumentTokenizer}, arranged as a trie so that all of them are matched at a
+ * position of an arguments string by reading its characters once.
+ * A trie is immutable once built, so parsers build theirs once and reuse it for every command.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Builds a trie of the given prefixes.
+     */
+    public PrefixTrie(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            Node node = root;
+            String prefixString = prefix.getPrefix();
+            for (int i = 0; i < prefixString.length(); i++) {
+                node = node.children.computeIfAbsent(prefixString.charAt(i), unused -> new Node());
+            }
+            node.prefix = prefix;
+        }
+    }
+
+    /**
+     * Returns the longest of the prefixes that {@code argsString} has at {@code position}, or null if it has none.
+     */
+    Prefix match(String argsString, int position) {
+        Node node = root;
+        Prefix longestMatch = root.prefix;
+        for (int i = position; i < argsString.length(); i++) {
+            node = node.children.get(argsString.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                longestMatch = node.prefix;
+            }
+        }
+        return longestMatch;
+    }
+
+    /**
+     * A node of the trie, reached by reading the characters on the path to it from the root.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+
+        /** The prefix spelt by the path to this node, or null if no prefix ends here. */
+        private Prefix prefix;
+    }
+}
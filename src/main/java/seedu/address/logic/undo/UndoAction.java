@@ -0,0 +1,15 @@
+package seedu.address.logic.undo;
+
+import seedu.address.model.Model;
+
+/**
+ * Reverts the changes that a single state-changing command made to a {@code Model}.
+ */
+@FunctionalInterface
+public interface UndoAction {
+
+    /**
+     * Applies the inverse of the recorded changes to {@code model}.
+     */
+    void undo(Model model);
+}
@@ -5,7 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
-import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -15,11 +15,11 @@ import seedu.address.model.ReadOnlyAddressBook;
 public final class UndoHistory {
 
     private static final class UndoEntry {
-        private final AddressBook state;
+        private final UndoAction action;
         private final String label;
 
-        private UndoEntry(AddressBook state, String label) {
-            this.state = state;
+        private UndoEntry(UndoAction action, String label) {
+            this.action = action;
             this.label = label;
         }
     }
@@ -31,17 +31,28 @@ public final class UndoHistory {
     }
 
     /**
-     * Records a snapshot of the address book before a state-changing command is executed.
+     * Records the action that reverts a state-changing command after it has been executed.
      */
-    public static void recordState(ReadOnlyAddressBook state, String commandLabel) {
-        requireNonNull(state);
+    public static void record(UndoAction undoAction, String commandLabel) {
+        requireNonNull(undoAction);
         requireNonNull(commandLabel);
-        history.push(new UndoEntry(new AddressBook(state), commandLabel));
+        history.push(new UndoEntry(undoAction, commandLabel));
         if (history.size() > MAX_HISTORY_SIZE) {
             history.removeLast();
         }
     }
 
+    /**
+     * Records a snapshot of the address book to be restored wholesale when undone.
+     * Snapshots share unchanged persons with each other, so {@code state} is only copied if it is not already
+     * an {@code AddressBook} or {@code AddressBookSnapshot}.
+     */
+    public static void recordState(ReadOnlyAddressBook state, String commandLabel) {
+        requireNonNull(state);
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(state);
+        record(model -> model.setAddressBook(snapshot), commandLabel);
+    }
+
     /**
      * Returns {@code true} if there is a previous state to restore.
      */
@@ -50,7 +61,8 @@ public final class UndoHistory {
     }
 
     /**
-     * Restores the most recently saved state into the provided {@code model}.
+     * Reverts the most recently recorded command on the provided {@code model}.
+     * Returns the label of the reverted command, or {@code null} if there is nothing to undo.
      */
     public static String restorePreviousState(Model model) {
         requireNonNull(model);
@@ -58,7 +70,7 @@ public final class UndoHistory {
             return null;
         }
         UndoEntry entry = history.pop();
-        model.setAddressBook(entry.state);
+        entry.action.undo(model);
         return entry.label;
     }
 
@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -17,6 +19,9 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final PersonAndSessionCounter counter;
+    private final SessionIndex sessionIndex;
+    private final NameTrigramIndex nameTrigramIndex;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -28,6 +33,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         counter = new PersonAndSessionCounter();
+        sessionIndex = new SessionIndex();
+        nameTrigramIndex = new NameTrigramIndex();
     }
 
     public AddressBook() {}
@@ -49,6 +56,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
         this.counter.setPersons(persons);
+        this.sessionIndex.setPersons(persons);
+        this.nameTrigramIndex.setPersons(persons);
+        version++;
     }
 
     /**
@@ -57,9 +67,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBookSnapshot) {
+            setPersons(((AddressBookSnapshot) newData).toList());
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Returns an immutable snapshot of the current contents of this {@code AddressBook}.
+     * This takes constant time, as the snapshot shares its persons with this address book.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.snapshot());
+    }
+
     //// person-level operations
 
     /**
@@ -77,6 +99,35 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addPerson(Person p) {
         persons.add(p);
         counter.add(p);
+        sessionIndex.add(p);
+        nameTrigramIndex.add(p);
+        version++;
+    }
+
+    /**
+     * Adds all of {@code persons} to the end of the address book at once.
+     * None of the persons may already exist in the address book.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        for (Person person : persons) {
+            counter.add(person);
+            sessionIndex.add(person);
+            nameTrigramIndex.add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Inserts a person at {@code index} of the address book.
+     * The person must not already exist in the address book.
+     */
+    public void insertPerson(int index, Person p) {
+        persons.add(index, p);
+        counter.add(p);
+        sessionIndex.add(p);
+        nameTrigramIndex.add(p);
+        version++;
     }
 
     /**
@@ -84,12 +135,51 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
-        counter.remove(key);
+        // the indexes hold the stored instance, which may be a different but equal object to key
+        Person removedPerson = persons.remove(key);
+        counter.remove(removedPerson);
+        sessionIndex.remove(removedPerson);
+        nameTrigramIndex.remove(removedPerson);
+        version++;
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook} at once.
+     * Every key must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        Set<Person> removedPersons = persons.removeAll(keys);
+        for (Person removedPerson : removedPersons) {
+            counter.remove(removedPerson);
+            sessionIndex.remove(removedPerson);
+            nameTrigramIndex.remove(removedPerson);
+        }
+        version++;
+    }
+
+    /**
+     * Removes the persons from {@code fromIndex} inclusive to {@code toIndex} exclusive of this
+     * {@code AddressBook} at once.
+     */
+    public void removePersonRange(int fromIndex, int toIndex) {
+        for (Person removedPerson : persons.removeRange(fromIndex, toIndex)) {
+            counter.remove(removedPerson);
+            sessionIndex.remove(removedPerson);
+            nameTrigramIndex.remove(removedPerson);
+        }
+        version++;
     }
 
     //// util methods
 
+    /**
+     * Returns the modification version of this {@code AddressBook}.
+     * The version increases every time the persons in the address book change, and never decreases.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -107,6 +197,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return counter;
     }
 
+    @Override
+    public SessionIndex getSessionIndex() {
+        return sessionIndex;
+    }
+
+    @Override
+    public NameTrigramIndex getNameTrigramIndex() {
+        return nameTrigramIndex;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
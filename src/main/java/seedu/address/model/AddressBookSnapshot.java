@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable view of an address book at some point in time.
+ * The snapshot shares its persons with the address book it was taken from, so taking one is cheap and holding
+ * on to it only costs the parts of the address book that have changed since.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> persons;
+
+    AddressBookSnapshot(PersistentList<Person> persons) {
+        this.persons = requireNonNull(persons);
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook}.
+     * The snapshot is shared rather than copied whenever {@code addressBook} allows it.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).snapshot();
+        }
+        return new AddressBook(addressBook).snapshot();
+    }
+
+    /**
+     * Returns the persons in this snapshot, in order, as a new modifiable {@code List}.
+     */
+    public List<Person> toList() {
+        return persons.toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The list is built afresh on each call, so callers that only need the persons should prefer {@link #toList()}.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(toList()));
+    }
+
+    @Override
+    public ReadOnlyPersonAndSessionCounter getCounter() {
+        PersonAndSessionCounter counter = new PersonAndSessionCounter();
+        counter.setPersons(toList());
+        return counter;
+    }
+
+    @Override
+    public ReadOnlySessionIndex getSessionIndex() {
+        SessionIndex sessionIndex = new SessionIndex();
+        sessionIndex.setPersons(toList());
+        return sessionIndex;
+    }
+
+    @Override
+    public ReadOnlyNameTrigramIndex getNameTrigramIndex() {
+        NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
+        nameTrigramIndex.setPersons(toList());
+        return nameTrigramIndex;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -53,6 +56,17 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the AddressBook that is not affected by later changes to the model.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns the modification version of the AddressBook.
+     * The version increases every time the AddressBook changes, so equal versions mean unchanged data.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -64,21 +78,59 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes all the given persons at once.
+     * The persons must exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
+    /**
+     * Deletes the persons from {@code fromIndex} inclusive to {@code toIndex} exclusive of the address book at once.
+     */
+    void deletePersonRange(int fromIndex, int toIndex);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all the given persons to the end of the address book at once, leaving the filter of the filtered person
+     * list as it is.
+     * None of {@code persons} may already exist in the address book.
+     */
+    void addPersons(List<Person> persons);
+
+    /**
+     * Inserts the given person at {@code index} of the address book.
+     * {@code person} must not already exist in the address book.
+     */
+    void insertPerson(int index, Person person);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the position in the address book of the person at {@code filteredIndex} of the filtered person list.
+     */
+    int getAddressBookIndex(int filteredIndex);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, where
+     * {@code matchingPersons} are the persons of the address book known to match it, e.g. as looked up in an index.
+     * Only persons that join the address book later, such as re-inserted or replaced persons, are tested against
+     * {@code predicate} itself.
+     * @throws NullPointerException if any argument is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> matchingPersons);
+
     /**
      * Sort the filtered person list by the given {@code comparator}.
      * @throws NullPointerException if {@code comparator} is null.
@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -89,6 +92,16 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -100,12 +113,34 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
+    @Override
+    public void deletePersonRange(int fromIndex, int toIndex) {
+        addressBook.removePersonRange(fromIndex, toIndex);
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+    }
+
+    @Override
+    public void insertPerson(int index, Person person) {
+        addressBook.insertPerson(index, person);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -117,13 +152,30 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    @Override
+    public int getAddressBookIndex(int filteredIndex) {
+        return filteredPersons.getSourceIndex(filteredIndex);
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (filteredPersons.getPredicate() == predicate) {
+            // the filtered list already tracks changes to the address book, so there is nothing to refilter
+            return;
+        }
         filteredPersons.setPredicate(predicate);
         //sortFilteredPersonList(new PersonTypeComparator());
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> matchingPersons) {
+        requireAllNonNull(predicate, matchingPersons);
+        PrematchedPredicate prematchedPredicate = new PrematchedPredicate(predicate, matchingPersons);
+        filteredPersons.setPredicate(prematchedPredicate);
+        prematchedPredicate.isApplied = true;
+    }
+
     @Override
     public void sortFilteredPersonList(Comparator<Person> comparator) {
         requireNonNull(comparator);
@@ -148,4 +200,28 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * A predicate that answers from a set of matching persons while it is first applied to the persons of the address
+     * book, which the set was looked up from, and from the predicate itself for any person tested afterwards.
+     * Setting it as the filter of the filtered person list tests every person there and then, so the set spares
+     * testing the predicate on each of them. Persons tested later are the ones that joined the address book since.
+     * Applying it still visits every person once, since {@code FilteredList} refilters its whole source on every new
+     * predicate; the set only turns each of those visits into a hash lookup.
+     */
+    private static class PrematchedPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private final Set<Person> matchingPersons;
+        private boolean isApplied;
+
+        private PrematchedPredicate(Predicate<Person> predicate, Set<Person> matchingPersons) {
+            this.predicate = predicate;
+            this.matchingPersons = matchingPersons;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return isApplied ? predicate.test(person) : matchingPersons.contains(person);
+        }
+    }
+
 }
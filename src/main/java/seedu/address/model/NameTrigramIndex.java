@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Maps every three-character sequence (trigram) of the case-folded person names in TAConnect
+ * to the persons whose name contains it.
+ * A name contains a keyword only if it contains every trigram of the keyword, so intersecting the persons of those
+ * trigrams narrows a substring search down to a few candidates without going through every person.
+ */
+public class NameTrigramIndex implements ReadOnlyNameTrigramIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> personsByTrigram;
+    private final Set<Person> allPersons;
+
+    /**
+     * Creates an empty {@code NameTrigramIndex}.
+     */
+    public NameTrigramIndex() {
+        personsByTrigram = new HashMap<>();
+        allPersons = newPersonSet();
+    }
+
+    /**
+     * Adds a person to the index.
+     */
+    public void add(Person p) {
+        allPersons.add(p);
+        for (String trigram : toTrigrams(p.getName().fullName)) {
+            personsByTrigram.computeIfAbsent(trigram, unused -> newPersonSet()).add(p);
+        }
+    }
+
+    /**
+     * Removes a person from the index.
+     */
+    public void remove(Person p) {
+        allPersons.remove(p);
+        for (String trigram : toTrigrams(p.getName().fullName)) {
+            Set<Person> persons = personsByTrigram.get(trigram);
+            assert persons != null && persons.contains(p);
+            persons.remove(p);
+            if (persons.isEmpty()) {
+                personsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Reset index with new list of persons
+     */
+    public void setPersons(List<Person> persons) {
+        personsByTrigram.clear();
+        allPersons.clear();
+
+        for (Person p : persons) {
+            add(p);
+        }
+    }
+
+    @Override
+    public Set<Person> getCandidates(String keyword) {
+        Set<String> trigrams = toTrigrams(keyword.trim());
+        Set<Person> candidates = newPersonSet();
+        if (trigrams.isEmpty()) {
+            // Keywords shorter than a trigram cannot be narrowed down.
+            candidates.addAll(allPersons);
+            return candidates;
+        }
+
+        List<Set<Person>> postings = new ArrayList<>();
+        for (String trigram : trigrams) {
+            Set<Person> persons = personsByTrigram.get(trigram);
+            if (persons == null) {
+                return candidates;
+            }
+            postings.add(persons);
+        }
+
+        // Start from the smallest posting list so that the intersection never grows beyond it.
+        postings.sort(Comparator.comparingInt(Set::size));
+        candidates.addAll(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text} after case folding.
+     */
+    private static Set<String> toTrigrams(String text) {
+        String caseFolded = text.toLowerCase(Locale.ROOT);
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= caseFolded.length(); i++) {
+            trigrams.add(caseFolded.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
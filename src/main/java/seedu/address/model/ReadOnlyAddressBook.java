@@ -19,4 +19,14 @@ public interface ReadOnlyAddressBook {
      * This tracks person and unique session count.
      */
     ReadOnlyPersonAndSessionCounter getCounter();
+
+    /**
+     * Returns a read-only index of persons by session.
+     */
+    ReadOnlySessionIndex getSessionIndex();
+
+    /**
+     * Returns a read-only trigram index of person names.
+     */
+    ReadOnlyNameTrigramIndex getNameTrigramIndex();
 }
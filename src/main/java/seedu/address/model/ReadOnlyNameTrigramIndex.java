@@ -0,0 +1,18 @@
+package seedu.address.model;
+
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Unmodifiable view of {@code NameTrigramIndex}
+ */
+public interface ReadOnlyNameTrigramIndex {
+    /**
+     * Returns the persons in TAConnect whose name may contain {@code keyword}, ignoring case.
+     * Every person whose name does contain {@code keyword} is returned, but some of the returned persons
+     * may not, so callers still have to check each candidate.
+     * The returned set compares persons by reference, as it only ever holds the instances stored in TAConnect.
+     */
+    Set<Person> getCandidates(String keyword);
+}
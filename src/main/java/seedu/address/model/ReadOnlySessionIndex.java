@@ -0,0 +1,18 @@
+package seedu.address.model;
+
+import java.util.Collection;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+
+/**
+ * Unmodifiable view of {@code SessionIndex}
+ */
+public interface ReadOnlySessionIndex {
+    /**
+     * Returns all persons in TAConnect who belong to any of the given {@code sessions}.
+     * The returned set compares persons by reference, as it only ever holds the instances stored in TAConnect.
+     */
+    Set<Person> getPersonsInSessions(Collection<Session> sessions);
+}
@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+
+/**
+ * Groups the persons in TAConnect by their session, so that persons of a session can be looked up
+ * without going through every person.
+ */
+public class SessionIndex implements ReadOnlySessionIndex {
+    private final Map<Session, Set<Person>> personsBySession;
+
+    public SessionIndex() {
+        personsBySession = new HashMap<>();
+    }
+
+    /**
+     * Adds a person to the index.
+     */
+    public void add(Person p) {
+        if (!p.getSession().isPresent()) {
+            return;
+        }
+
+        personsBySession.computeIfAbsent(p.getSession().get(), unused -> newPersonSet()).add(p);
+    }
+
+    /**
+     * Removes a person from the index.
+     */
+    public void remove(Person p) {
+        if (!p.getSession().isPresent()) {
+            return;
+        }
+
+        Session session = p.getSession().get();
+        Set<Person> persons = personsBySession.get(session);
+        assert persons != null && persons.contains(p);
+        persons.remove(p);
+        if (persons.isEmpty()) {
+            personsBySession.remove(session);
+        }
+    }
+
+    /**
+     * Reset index with new list of persons
+     */
+    public void setPersons(List<Person> persons) {
+        personsBySession.clear();
+
+        for (Person p : persons) {
+            add(p);
+        }
+    }
+
+    @Override
+    public Set<Person> getPersonsInSessions(Collection<Session> sessions) {
+        Set<Person> persons = newPersonSet();
+        for (Session session : sessions) {
+            persons.addAll(personsBySession.getOrDefault(session, Collections.emptySet()));
+        }
+        return persons;
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}.
@@ -31,14 +35,12 @@ public class Email {
     private static final String DOMAIN = "(?:" + DOMAIN_LABEL + "\\.)+[A-Za-z0-9]{2,}"; // at least one dot, TLD ≥ 2
     public static final String VALIDATION_REGEX = "^" + LOCAL + "@" + DOMAIN + "$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     private static final int MAX_TOTAL_LENGTH = 254;
     private static final int MAX_LOCAL_LENGTH = 64;
     private static final int MAX_LABEL_LENGTH = 63;
 
-    // For normalization
-    private static final java.util.regex.Pattern SPLIT_AT_AT =
-            java.util.regex.Pattern.compile("@", java.util.regex.Pattern.LITERAL);
-
     public final String value;
 
     /**
@@ -49,11 +51,33 @@ public class Email {
     public Email(String email) {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
-        // Normalize: lower-case the domain part; preserve local-part as entered
-        String[] parts = SPLIT_AT_AT.split(email, -1);
-        String local = parts[0];
-        String domainLower = parts[1].toLowerCase(java.util.Locale.ROOT);
-        value = local + "@" + domainLower;
+        value = normalize(email);
+    }
+
+    /**
+     * Constructs an {@code Email} from a value that is already known to be valid.
+     */
+    private Email(String value, boolean isValidated) {
+        assert isValidated && isValidEmail(value);
+        this.value = value;
+    }
+
+    /**
+     * Returns an {@code Email} of {@code value} without validating it again.
+     * {@code value} must be the value of an existing {@code Email}.
+     */
+    static Email ofTrusted(String value) {
+        requireNonNull(value);
+        return new Email(value, true);
+    }
+
+    /**
+     * Returns an {@code Email} of {@code email} if it is a valid email, or {@code Optional.empty()} otherwise.
+     * Unlike calling {@link #isValidEmail(String)} before the constructor, this checks {@code email} only once.
+     */
+    public static Optional<Email> ofValid(String email) {
+        requireNonNull(email);
+        return isValidEmail(email) ? Optional.of(new Email(normalize(email), true)) : Optional.empty();
     }
 
     /**
@@ -73,20 +97,32 @@ public class Email {
         if (test.indexOf('@', atIdx + 1) != -1) {
             return false;
         }
-        String local = test.substring(0, atIdx);
-        String domain = test.substring(atIdx + 1);
-        if (local.length() == 0 || local.length() > MAX_LOCAL_LENGTH) {
+        if (atIdx > MAX_LOCAL_LENGTH) {
             return false;
         }
-        // check domain label lengths ≤ 63
-        String[] labels = domain.split("\\.");
-        for (String label : labels) {
-            if (label.isEmpty() || label.length() > MAX_LABEL_LENGTH) {
+        // check domain label lengths ≤ 63, without splitting the domain into labels
+        int labelStart = atIdx + 1;
+        while (labelStart <= test.length()) {
+            int labelEnd = test.indexOf('.', labelStart);
+            if (labelEnd == -1) {
+                labelEnd = test.length();
+            }
+            int labelLength = labelEnd - labelStart;
+            if (labelLength == 0 || labelLength > MAX_LABEL_LENGTH) {
                 return false;
             }
+            labelStart = labelEnd + 1;
         }
-        // final regex check
-        return test.matches(VALIDATION_REGEX);
+        // final regex check, with the pattern compiled once
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns {@code email} with its domain part lower-cased. The local-part is preserved as entered.
+     */
+    private static String normalize(String email) {
+        int atIdx = email.indexOf('@');
+        return email.substring(0, atIdx + 1) + email.substring(atIdx + 1).toLowerCase(Locale.ROOT);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -36,13 +38,53 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Constructs a {@code Name} from a value that is already known to be valid.
+     */
+    private Name(String fullName, boolean isValidated) {
+        assert isValidated && isValidName(fullName);
+        this.fullName = fullName;
+    }
+
+    /**
+     * Returns a {@code Name} of {@code fullName} without validating it again.
+     * {@code fullName} must be the value of an existing {@code Name}.
+     */
+    static Name ofTrusted(String fullName) {
+        requireNonNull(fullName);
+        return new Name(fullName, true);
+    }
+
+    /**
+     * Returns a {@code Name} of {@code name} if it is a valid name, or {@code Optional.empty()} otherwise.
+     * Unlike calling {@link #isValidName(String)} before the constructor, this checks {@code name} only once.
+     */
+    public static Optional<Name> ofValid(String name) {
+        requireNonNull(name);
+        return isValidName(name) ? Optional.of(new Name(name, true)) : Optional.empty();
+    }
+
     /**
      * Returns true if a given string is a valid name.
+     * The characters are checked one by one, accepting the same strings as {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_NAME_LENGTH;
+        int length = test.length();
+        if (length == 0 || length > MAX_NAME_LENGTH || test.charAt(0) == ' ') {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isNameCharacter(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    private static boolean isNameCharacter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == ' ' || c == '-' || c == '.' || c == '/'
+                || c == '\'' || c == '\u2018' || c == '\u2019' || c == '\u02BC';
+    }
 
     @Override
     public String toString() {
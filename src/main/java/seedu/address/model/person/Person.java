@@ -61,6 +61,18 @@ public class Person {
         this(name, phone, email, type, null, null);
     }
 
+    /**
+     * Returns a person with the given field values without validating any of them again.
+     * The values must be those of an existing person, e.g. read back from a data file that is known to have been
+     * written by this app. {@code telegramUsername} and {@code session} may be null if absent.
+     */
+    public static Person ofTrusted(String name, String phone, String email, String type, String telegramUsername,
+            String session) {
+        return new Person(Name.ofTrusted(name), Phone.ofTrusted(phone), Email.ofTrusted(email), Type.ofTrusted(type),
+                telegramUsername == null ? null : TelegramUsername.ofTrusted(telegramUsername),
+                session == null ? null : Session.ofTrusted(session));
+    }
+
     public Name getName() {
         return name;
     }
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}.
@@ -17,6 +19,7 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone number must be a Singapore number with exactly 8 digits (0-9).";
     public static final String VALIDATION_REGEX = "\\d{8}";
+    public static final int PHONE_LENGTH = 8;
     public final String value;
 
     /**
@@ -30,11 +33,46 @@ public class Phone {
         value = phone;
     }
 
+    /**
+     * Constructs a {@code Phone} from a value that is already known to be valid.
+     */
+    private Phone(String value, boolean isValidated) {
+        assert isValidated && isValidPhone(value);
+        this.value = value;
+    }
+
+    /**
+     * Returns a {@code Phone} of {@code value} without validating it again.
+     * {@code value} must be the value of an existing {@code Phone}.
+     */
+    static Phone ofTrusted(String value) {
+        requireNonNull(value);
+        return new Phone(value, true);
+    }
+
+    /**
+     * Returns a {@code Phone} of {@code phone} if it is a valid phone number, or {@code Optional.empty()} otherwise.
+     * Unlike calling {@link #isValidPhone(String)} before the constructor, this checks {@code phone} only once.
+     */
+    public static Optional<Phone> ofValid(String phone) {
+        requireNonNull(phone);
+        return isValidPhone(phone) ? Optional.of(new Phone(phone, true)) : Optional.empty();
+    }
+
     /**
      * Returns true if a given string is a valid Singapore phone number (exactly 8 digits).
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != PHONE_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < PHONE_LENGTH; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
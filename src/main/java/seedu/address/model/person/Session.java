@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+
 /**
  * Represents a Person's session in TAConnect.
  * Format: 1–2 uppercase letters + number 1–99 (allow leading zero for 1–9) + optional trailing uppercase letter.
@@ -32,14 +34,71 @@ public class Session {
         this.value = session;
     }
 
+    /**
+     * Constructs a {@code Session} from a value that is already known to be valid.
+     */
+    private Session(String value, boolean isValidated) {
+        assert isValidated && isValidSession(value);
+        this.value = value;
+    }
+
+    /**
+     * Returns a {@code Session} of {@code value} without validating it again.
+     * {@code value} must be the value of an existing {@code Session}.
+     */
+    static Session ofTrusted(String value) {
+        requireNonNull(value);
+        return new Session(value, true);
+    }
+
+    /**
+     * Returns a {@code Session} of {@code session} if it is a valid session, or {@code Optional.empty()} otherwise.
+     * Unlike calling {@link #isValidSession(String)} before the constructor, this checks {@code session} only once.
+     */
+    public static Optional<Session> ofValid(String session) {
+        requireNonNull(session);
+        return isValidSession(session) ? Optional.of(new Session(session, true)) : Optional.empty();
+    }
+
     /**
      * Returns true if the given string is a valid session identifier (as provided in the User Guide).
+     * The characters are checked one by one, accepting the same strings as {@link #VALIDATION_REGEX}.
      *
      * @param test String to validate.
      * @return True if the string matches the session format.
      */
     public static boolean isValidSession(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int length = test.length();
+        int letterCount = 0;
+        while (letterCount < length && isUpperCaseLetter(test.charAt(letterCount))) {
+            letterCount++;
+        }
+        if (letterCount < 1 || letterCount > 2) {
+            return false;
+        }
+
+        int digitEnd = letterCount;
+        while (digitEnd < length && isDigit(test.charAt(digitEnd))) {
+            digitEnd++;
+        }
+        int digitCount = digitEnd - letterCount;
+        boolean isValidNumber = digitCount == 1
+                ? test.charAt(letterCount) != '0'
+                : digitCount == 2 && !(test.charAt(letterCount) == '0' && test.charAt(letterCount + 1) == '0');
+        if (!isValidNumber) {
+            return false;
+        }
+
+        // an optional trailing letter
+        return digitEnd == length || (digitEnd == length - 1 && isUpperCaseLetter(test.charAt(digitEnd)));
+    }
+
+    private static boolean isUpperCaseLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     @Override
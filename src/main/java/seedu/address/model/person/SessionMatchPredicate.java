@@ -1,26 +1,31 @@
 package seedu.address.model.person;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests that a {@code Person}'s {@code Session} matches the sessions given.
+ * Tests that a {@code Person}'s {@code Session} matches any of the sessions given.
  */
 public class SessionMatchPredicate implements Predicate<Person> {
-    private final Session session;
+    private final List<Session> sessions;
+
+    public SessionMatchPredicate(List<Session> sessions) {
+        this.sessions = List.copyOf(sessions);
+    }
 
     public SessionMatchPredicate(Session session) {
-        this.session = session;
+        this(List.of(session));
     }
 
-    public Session getSession() {
-        return session;
+    public List<Session> getSessions() {
+        return sessions;
     }
 
     @Override
     public boolean test(Person person) {
-        return person.getSession().map(session::equals).orElse(false);
+        return person.getSession().map(sessions::contains).orElse(false);
     }
 
     @Override
@@ -35,11 +40,11 @@ public class SessionMatchPredicate implements Predicate<Person> {
         }
 
         SessionMatchPredicate otherSessionMatchPredicate = (SessionMatchPredicate) other;
-        return session.equals(otherSessionMatchPredicate.session);
+        return sessions.equals(otherSessionMatchPredicate.sessions);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("session", session).toString();
+        return new ToStringBuilder(this).add("sessions", sessions).toString();
     }
 }
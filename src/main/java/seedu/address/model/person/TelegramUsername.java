@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+
 /**
  * Represents a Person's Telegram username in TAConnect.
  * Guarantees: immutable; is valid as declared in {@link #isValidTelegramUsername(String)}
@@ -17,6 +19,9 @@ public class TelegramUsername {
             + "https://core.telegram.org/method/account.updateUsername#parameters\n";
     public static final String VALIDATION_REGEX = "^@?(?=.{5,32}$)[A-Za-z0-9_]+$";
 
+    private static final int MIN_LENGTH = 5;
+    private static final int MAX_LENGTH = 32;
+
     public final String value;
 
     /**
@@ -28,15 +33,63 @@ public class TelegramUsername {
         requireNonNull(telegramUsername);
         checkArgument(isValidTelegramUsername(telegramUsername), MESSAGE_CONSTRAINTS);
 
-        // include @ as the first character if not already included.
-        this.value = (telegramUsername.startsWith("@")) ? telegramUsername : "@" + telegramUsername;
+        this.value = withAtSign(telegramUsername);
+    }
+
+    /**
+     * Constructs a {@code TelegramUsername} from a value that is already known to be valid.
+     */
+    private TelegramUsername(String value, boolean isValidated) {
+        assert isValidated && isValidTelegramUsername(value);
+        this.value = value;
+    }
+
+    /**
+     * Returns a {@code TelegramUsername} of {@code value} without validating it again.
+     * {@code value} must be the value of an existing {@code TelegramUsername}.
+     */
+    static TelegramUsername ofTrusted(String value) {
+        requireNonNull(value);
+        return new TelegramUsername(value, true);
+    }
+
+    /**
+     * Returns a {@code TelegramUsername} of {@code telegramUsername} if it is a valid Telegram username, or
+     * {@code Optional.empty()} otherwise.
+     * Unlike calling {@link #isValidTelegramUsername(String)} before the constructor, this checks
+     * {@code telegramUsername} only once.
+     */
+    public static Optional<TelegramUsername> ofValid(String telegramUsername) {
+        requireNonNull(telegramUsername);
+        return isValidTelegramUsername(telegramUsername)
+                ? Optional.of(new TelegramUsername(withAtSign(telegramUsername), true))
+                : Optional.empty();
     }
 
     /**
-     * Returns true if a given string is a valid session number.
+     * Returns true if a given string is a valid Telegram username.
+     * The characters are checked one by one, accepting the same strings as {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidTelegramUsername(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int start = test.startsWith("@") ? 1 : 0;
+        int length = test.length() - start;
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = start; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code telegramUsername} with @ as the first character, adding it if not already included.
+     */
+    private static String withAtSign(String telegramUsername) {
+        return telegramUsername.startsWith("@") ? telegramUsername : "@" + telegramUsername;
     }
 
     @Override
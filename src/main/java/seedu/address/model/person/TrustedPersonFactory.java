@@ -0,0 +1,29 @@
+package seedu.address.model.person;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates persons from field values that are known to be valid, like {@link Person#ofTrusted}, but shares a single
+ * {@code Type} and {@code Session} between all the persons it creates with the same type or session.
+ * An address book only has a handful of distinct types and sessions, so this saves creating them for every person
+ * when loading a data file. Can be used by several threads at once.
+ */
+public class TrustedPersonFactory {
+
+    private final Map<String, Type> types = new ConcurrentHashMap<>();
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a person with the given field values without validating any of them again.
+     *
+     * @see Person#ofTrusted(String, String, String, String, String, String)
+     */
+    public Person create(String name, String phone, String email, String type, String telegramUsername,
+            String session) {
+        return new Person(Name.ofTrusted(name), Phone.ofTrusted(phone), Email.ofTrusted(email),
+                types.computeIfAbsent(type, Type::ofTrusted),
+                telegramUsername == null ? null : TelegramUsername.ofTrusted(telegramUsername),
+                session == null ? null : sessions.computeIfAbsent(session, Session::ofTrusted));
+    }
+}
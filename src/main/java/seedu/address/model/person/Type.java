@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+
 /**
  * Represents a Person's contact type in the address book.
  * Valid types: student, ta, instructor, staff.
@@ -13,6 +15,8 @@ public class Type {
             "The content must be “student”, “ta”, “instructor”, or “staff” in the type field.";
     public static final String VALIDATION_REGEX = "(?i)(student|ta|instructor|staff)";
 
+    private static final String[] TYPES = {"student", "ta", "instructor", "staff"};
+
     public final String value;
 
     /**
@@ -26,11 +30,57 @@ public class Type {
         this.value = type.toLowerCase();
     }
 
+    /**
+     * Constructs a {@code Type} from a value that is already known to be valid.
+     */
+    private Type(String value, boolean isValidated) {
+        assert isValidated && isValidType(value);
+        this.value = value;
+    }
+
+    /**
+     * Returns a {@code Type} of {@code value} without validating it again.
+     * {@code value} must be the value of an existing {@code Type}.
+     */
+    static Type ofTrusted(String value) {
+        requireNonNull(value);
+        return new Type(value, true);
+    }
+
+    /**
+     * Returns a {@code Type} of {@code type} if it is a valid type, or {@code Optional.empty()} otherwise.
+     * Unlike calling {@link #isValidType(String)} before the constructor, this checks {@code type} only once.
+     */
+    public static Optional<Type> ofValid(String type) {
+        requireNonNull(type);
+        return isValidType(type) ? Optional.of(new Type(type.toLowerCase(), true)) : Optional.empty();
+    }
+
     /**
      * Returns true if a given string is a valid type.
+     * Like {@link #VALIDATION_REGEX}, only the letters A-Z are matched regardless of case.
      */
     public static boolean isValidType(String test) {
-        return test.matches(VALIDATION_REGEX);
+        for (String type : TYPES) {
+            if (equalsIgnoreAsciiCase(test, type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean equalsIgnoreAsciiCase(String test, String lowerCaseType) {
+        if (test.length() != lowerCaseType.length()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            char lowerCaseC = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+            if (lowerCaseC != lowerCaseType.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
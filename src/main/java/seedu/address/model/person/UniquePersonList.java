@@ -3,11 +3,21 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,6 +28,12 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since {@code Person#isSamePerson(Person)} compares emails case-insensitively, the list also keeps an index of its
+ * persons keyed by their case-folded email so that identity checks do not need to scan the list.
+ *
+ * Every change is mirrored into a {@code PersistentList}, so that {@link #snapshot()} can hand out the current
+ * contents without copying them.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +43,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> personsByIdentity = new HashMap<>();
+    private PersistentList<Person> snapshot = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByIdentity.containsKey(toIdentityKey(toCheck));
     }
 
     /**
@@ -46,6 +64,41 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByIdentity.put(toIdentityKey(toAdd), toAdd);
+        snapshot = snapshot.add(toAdd);
+    }
+
+    /**
+     * Inserts a person at {@code index} of the list.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        personsByIdentity.put(toIdentityKey(toAdd), toAdd);
+        snapshot = snapshot.add(index, toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, publishing a single change to observers of the list.
+     * None of the persons may already exist in the list, or share an identity with each other;
+     * if any does, the list is left unchanged.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<String, Person> addedIndex = indexByIdentity(toAdd);
+        if (addedIndex == null || addedIndex.keySet().stream().anyMatch(personsByIdentity::containsKey)) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.addAll(toAdd);
+        personsByIdentity.putAll(addedIndex);
+        for (Person person : toAdd) {
+            snapshot = snapshot.add(person);
+        }
     }
 
     /**
@@ -56,8 +109,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(personsByIdentity.get(toIdentityKey(target)))) {
             throw new PersonNotFoundException();
         }
 
@@ -65,23 +117,76 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = internalList.indexOf(target);
         internalList.set(index, editedPerson);
+        personsByIdentity.remove(toIdentityKey(target));
+        personsByIdentity.put(toIdentityKey(editedPerson), editedPerson);
+        snapshot = snapshot.set(index, editedPerson);
     }
 
     /**
-     * Removes the equivalent person from the list.
+     * Removes the equivalent person from the list and returns the removed instance.
      * The person must exist in the list.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person storedPerson = personsByIdentity.get(toIdentityKey(toRemove));
+        if (!toRemove.equals(storedPerson)) {
             throw new PersonNotFoundException();
         }
+        int index = internalList.indexOf(storedPerson);
+        internalList.remove(index);
+        personsByIdentity.remove(toIdentityKey(storedPerson));
+        snapshot = snapshot.remove(index);
+        return storedPerson;
+    }
+
+    /**
+     * Removes all the equivalent persons in {@code toRemove} from the list in a single pass,
+     * publishing a single change to observers of the list, and returns the removed instances.
+     * Every person must exist in the list; if any does not, the list is left unchanged.
+     */
+    public Set<Person> removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> storedPersonsToRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : toRemove) {
+            Person storedPerson = personsByIdentity.get(toIdentityKey(person));
+            if (!person.equals(storedPerson)) {
+                throw new PersonNotFoundException();
+            }
+            storedPersonsToRemove.add(storedPerson);
+        }
+
+        internalList.removeAll(storedPersonsToRemove);
+        for (Person person : storedPersonsToRemove) {
+            personsByIdentity.remove(toIdentityKey(person));
+        }
+        snapshot = PersistentList.of(internalList);
+        return storedPersonsToRemove;
+    }
+
+    /**
+     * Removes the persons from {@code fromIndex} inclusive to {@code toIndex} exclusive of the list, publishing a
+     * single change to observers of the list, and returns them in order.
+     * Unlike {@link #removeAll}, only the removed persons are visited.
+     */
+    public List<Person> removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, internalList.size());
+        List<Person> removedPersons = new ArrayList<>(internalList.subList(fromIndex, toIndex));
+        internalList.remove(fromIndex, toIndex);
+        for (Person person : removedPersons) {
+            personsByIdentity.remove(toIdentityKey(person));
+        }
+        snapshot = snapshot.removeRange(fromIndex, toIndex);
+        return removedPersons;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByIdentity.clear();
+        personsByIdentity.putAll(replacement.personsByIdentity);
+        snapshot = replacement.snapshot;
     }
 
     /**
@@ -90,11 +195,23 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<String, Person> replacementIndex = indexByIdentity(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        personsByIdentity.clear();
+        personsByIdentity.putAll(replacementIndex);
+        snapshot = PersistentList.of(persons);
+    }
+
+    /**
+     * Returns the current contents of the list as an immutable list.
+     * This takes constant time, and the returned list is not affected by later changes to this list.
+     */
+    public PersistentList<Person> snapshot() {
+        return snapshot;
     }
 
     /**
@@ -135,16 +252,24 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} indexed by their identity key,
+     * or null if {@code persons} contains two persons with the same identity.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<String, Person> indexByIdentity(List<Person> persons) {
+        Map<String, Person> index = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (index.putIfAbsent(toIdentityKey(person), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Returns the key under which {@code person} is indexed.
+     * Two persons have the same key if and only if {@code Person#isSamePerson(Person)} holds between them.
+     */
+    private static String toIdentityKey(Person person) {
+        return person.getEmail().value.toLowerCase(Locale.ROOT);
     }
 }
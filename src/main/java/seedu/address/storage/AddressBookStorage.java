@@ -42,4 +42,22 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Brings the data file up to date with everything saved so far, so that it can be copied or edited on its own.
+     * Storages that write every save to the data file itself have nothing to do.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void compactAddressBook() throws IOException {
+    }
+
+    /**
+     * Releases what the storage keeps open between saves, such as a connection to its database.
+     * The storage opens it again if it is used afterwards. Storages that keep nothing open have nothing to do.
+     *
+     * @throws IOException if there was any problem closing the data file.
+     */
+    default void closeAddressBook() throws IOException {
+    }
+
 }
@@ -0,0 +1,313 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TrustedPersonFactory;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ *
+ * The file starts with a fixed-size header holding {@link #MAGIC}, the {@link #FORMAT_VERSION}, the number of
+ * persons, and the length and CRC32 checksum of the body that follows. The body lists each distinct session and
+ * type once, followed by one record per person that refers to its session and type by their position in those
+ * lists. Strings are stored as UTF-8, prefixed by their length in bytes, or by -1 if absent.
+ *
+ * Files larger than a threshold are memory-mapped for reading rather than copied onto the heap.
+ * As the file is only read once its checksum matches, the fields of its persons are not validated again. The
+ * persons are still checked for duplicates and against the limits on the number of persons and sessions.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first four bytes of every binary snapshot, "TACB" in ASCII. */
+    public static final int MAGIC = 0x54414342;
+    public static final int FORMAT_VERSION = 1;
+    public static final long DEFAULT_MAPPED_READ_THRESHOLD = 64 * 1024;
+
+    /** Magic, format version, person count, body length and body checksum. */
+    static final int HEADER_SIZE = Integer.BYTES * 3 + Long.BYTES * 2;
+
+    private static final int ABSENT = -1;
+
+    /**
+     * Windows does not allow a file to be overwritten while it is mapped, and a mapping is only released once it is
+     * garbage collected, so files are never mapped there.
+     */
+    private static final boolean CAN_MAP_FILES = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final long mappedReadThreshold;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MAPPED_READ_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that memory-maps files larger than {@code mappedReadThreshold}
+     * bytes for reading.
+     */
+    public BinaryAddressBookStorage(Path filePath, long mappedReadThreshold) {
+        this.filePath = filePath;
+        this.mappedReadThreshold = mappedReadThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(decode(readFile(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        FileUtil.writeToFileKeepingBackup(filePath, channel -> {
+            // the body is written first, as the header holds its length and checksum
+            channel.position(HEADER_SIZE);
+            CRC32 checksum = new CRC32();
+            DataOutputStream body = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), checksum)));
+            encode(persons, body);
+            body.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(persons.size())
+                    .putLong(channel.position() - HEADER_SIZE)
+                    .putLong(checksum.getValue());
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        });
+    }
+
+    /**
+     * Returns the contents of the file at {@code filePath}, mapped into memory if the file is large.
+     */
+    private ByteBuffer readFile(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Data file is too large: " + size + " bytes");
+            }
+            if (CAN_MAP_FILES && size > mappedReadThreshold) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the end of the file is reached
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    /**
+     * Writes the body of the snapshot of {@code persons} to {@code out}.
+     */
+    private static void encode(List<Person> persons, DataOutputStream out) throws IOException {
+        Map<String, Integer> sessions = new LinkedHashMap<>();
+        Map<String, Integer> types = new LinkedHashMap<>();
+        for (Person person : persons) {
+            person.getSession().ifPresent(session -> sessions.putIfAbsent(session.toString(), sessions.size()));
+            types.putIfAbsent(person.getType().value, types.size());
+        }
+
+        writeDictionary(sessions, out);
+        writeDictionary(types, out);
+        for (Person person : persons) {
+            writeString(person.getName().fullName, out);
+            writeString(person.getPhone().value, out);
+            writeString(person.getEmail().value, out);
+            writeString(person.getTelegramUsername().map(telegram -> telegram.value).orElse(null), out);
+            out.writeInt(types.get(person.getType().value));
+            out.writeInt(person.getSession().map(session -> sessions.get(session.toString())).orElse(ABSENT));
+        }
+    }
+
+    /**
+     * Reads the address book from the snapshot in {@code buffer}.
+     *
+     * @throws IOException if {@code buffer} does not hold an intact snapshot in a supported format version.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static AddressBook decode(ByteBuffer buffer) throws IOException, IllegalValueException {
+        try {
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                throw new IOException("Data file is not a binary address book");
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported binary address book version " + version);
+            }
+            int personCount = buffer.getInt();
+            long bodyLength = buffer.getLong();
+            long bodyChecksum = buffer.getLong();
+            if (personCount < 0 || bodyLength != buffer.remaining()) {
+                throw new IOException("Data file is truncated or has trailing data");
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.duplicate());
+            if (checksum.getValue() != bodyChecksum) {
+                throw new IOException("Data file checksum does not match its contents");
+            }
+
+            List<String> sessions = readDictionary(buffer);
+            List<String> types = readDictionary(buffer);
+            AddressBook addressBook = new AddressBook();
+            TrustedPersonFactory personFactory = new TrustedPersonFactory();
+            for (int i = 0; i < personCount; i++) {
+                String name = requirePresent(readString(buffer), "name");
+                String phone = requirePresent(readString(buffer), "phone");
+                String email = requirePresent(readString(buffer), "email");
+                String telegramUsername = readString(buffer);
+                String type = requirePresent(lookUp(types, buffer.getInt()), "type");
+                String session = lookUp(sessions, buffer.getInt());
+                // the checksum shows that the file is as written by this app, so it holds only valid values
+                Person person = personFactory.create(name, phone, email, type, telegramUsername, session);
+                JsonSerializableAddressBook.addPersonChecked(addressBook, person);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Data file has trailing data after " + personCount + " persons");
+            }
+            return addressBook;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Data file is truncated or malformed", e);
+        }
+    }
+
+    private static void writeDictionary(Map<String, Integer> entries, DataOutputStream out) throws IOException {
+        out.writeInt(entries.size());
+        for (String entry : entries.keySet()) {
+            writeString(entry, out);
+        }
+    }
+
+    private static List<String> readDictionary(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        if (size < 0 || size > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid dictionary size " + size);
+        }
+        List<String> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(requirePresent(readString(buffer), "dictionary entry"));
+        }
+        return entries;
+    }
+
+    private static String lookUp(List<String> dictionary, int position) {
+        if (position == ABSENT) {
+            return null;
+        }
+        if (position < 0 || position >= dictionary.size()) {
+            throw new IllegalArgumentException("Invalid dictionary position " + position);
+        }
+        return dictionary.get(position);
+    }
+
+    /**
+     * Returns {@code value}, read for a {@code field} that every person must have.
+     *
+     * @throws IllegalArgumentException if {@code value} is absent.
+     */
+    private static String requirePresent(String value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException("Absent " + field);
+        }
+        return value;
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeInt(ABSENT);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == ABSENT) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
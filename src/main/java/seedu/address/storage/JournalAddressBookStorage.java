@@ -0,0 +1,383 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json checkpoint file on the hard disk, together with an
+ * append-only journal of the changes made since that checkpoint was written.
+ *
+ * The checkpoint has the same format as the file written by {@link JsonAddressBookStorage}. The journal sits next
+ * to it with {@link #JOURNAL_FILE_EXTENSION} appended to its name and holds one json record per line. Its first
+ * record names the checksum of the checkpoint it belongs to, so a journal that was already folded into a newer
+ * checkpoint is ignored. Each save appends the records for all of its changes and syncs them to disk once, and the
+ * journal is folded into a new checkpoint when it grows past a size threshold, or when
+ * {@link #compactAddressBook()} is called on exit.
+ *
+ * A journal with changes that belongs to neither the checkpoint nor the checkpoint's backup means the checkpoint was
+ * edited by hand. Its changes cannot be replayed onto the edited checkpoint, so the journal is renamed aside with
+ * {@link #ORPHANED_JOURNAL_FILE_EXTENSION} appended, rather than being overwritten by the next save.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final String ORPHANED_JOURNAL_FILE_EXTENSION = ".orphaned";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+    private static final DateTimeFormatter ORPHANED_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path filePath;
+    private final long compactionThreshold;
+
+    /** The persons held by the checkpoint and journal at {@code filePath}, or null if they are not known. */
+    private List<Person> storedPersons;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that starts a new checkpoint once the journal is larger than
+     * {@code compactionThreshold} bytes.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the checkpoint at {@code checkpointPath}.
+     */
+    public static Path getJournalFilePath(Path checkpointPath) {
+        return checkpointPath.resolveSibling(checkpointPath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Loads the checkpoint at {@code filePath} and replays the journal written since.
+     *
+     * @param filePath location of the checkpoint. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            long checkpointChecksum = checksumOf(filePath);
+            Path journalPath = getJournalFilePath(filePath);
+
+            // a checkpoint that still matches the checksum in its journal is exactly as this app wrote it, so the
+            // fields of its persons need not be validated again
+            boolean isCheckpointIntact = isJournalOf(journalPath, checkpointChecksum);
+            if (!isCheckpointIntact && hasRecords(journalPath) && !isFoldedIntoCheckpoint(journalPath, filePath)) {
+                setAsideOrphanedJournal(journalPath);
+            }
+            AddressBook checkpointAddressBook;
+            try (InputStream checkpoint = Files.newInputStream(filePath)) {
+                checkpointAddressBook = JsonAddressBookReader.read(checkpoint, isCheckpointIntact);
+            }
+            List<Person> persons = new ArrayList<>(checkpointAddressBook.getPersonList());
+            boolean isJournalUsable = isCheckpointIntact && replayJournal(journalPath, persons);
+
+            // the replayed persons are only checked again if the journal changed anything
+            ReadOnlyAddressBook addressBook = persons.equals(checkpointAddressBook.getPersonList())
+                    ? checkpointAddressBook
+                    : JsonSerializableAddressBook.toModelType(persons);
+
+            if (filePath.equals(this.filePath)) {
+                // a journal that cannot be appended to is replaced by a new checkpoint on the next save
+                storedPersons = isJournalUsable ? persons : null;
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Appends the changes since the last save to the journal at {@code filePath},
+     * or writes a new checkpoint if the changes cannot be appended.
+     *
+     * @param filePath location of the checkpoint. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        Path journalPath = getJournalFilePath(filePath);
+        if (!filePath.equals(this.filePath) || storedPersons == null || !Files.exists(journalPath)) {
+            writeCheckpoint(addressBook, filePath);
+            return;
+        }
+
+        Optional<List<JsonAdaptedJournalRecord>> records = recordChanges(storedPersons, persons);
+        if (records.isEmpty() || records.get().size() > persons.size()) {
+            writeCheckpoint(addressBook, filePath);
+            return;
+        }
+
+        appendToJournal(journalPath, records.get());
+        storedPersons = persons;
+        if (Files.size(journalPath) > compactionThreshold) {
+            writeCheckpoint(addressBook, filePath);
+        }
+    }
+
+    /**
+     * Folds the journal into a new checkpoint, so that the checkpoint alone holds everything saved so far.
+     * Does nothing if the journal holds no changes, or if it cannot be appended to, as the next save then writes
+     * a new checkpoint anyway.
+     */
+    @Override
+    public void compactAddressBook() throws IOException {
+        if (storedPersons == null || !hasRecords(getJournalFilePath(filePath))) {
+            return;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(storedPersons);
+        writeCheckpoint(addressBook, filePath);
+    }
+
+    /**
+     * Writes all of {@code addressBook} as the checkpoint at {@code filePath} and starts an empty journal on it.
+     * The checkpoint is replaced atomically, keeping the previous one as its backup.
+     */
+    private void writeCheckpoint(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        logger.fine("Writing checkpoint to data file: " + filePath);
+        CRC32 checksum = new CRC32();
+        FileUtil.writeToFileKeepingBackup(filePath, channel -> JsonAddressBookWriter.write(addressBook,
+                new CheckedOutputStream(Channels.newOutputStream(channel), checksum)));
+        long checkpointChecksum = checksum.getValue();
+
+        // the new journal replaces the old one atomically and is synced to disk before any record is appended to it;
+        // if this is interrupted, the old journal no longer matches the checkpoint and is ignored on loading
+        String header = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.checkpoint(checkpointChecksum));
+        FileUtil.writeToFile(getJournalFilePath(filePath), header + System.lineSeparator());
+
+        if (filePath.equals(this.filePath)) {
+            storedPersons = new ArrayList<>(addressBook.getPersonList());
+        }
+    }
+
+    /**
+     * Appends {@code records} to the journal and syncs them to disk together.
+     */
+    private static void appendToJournal(Path journalPath, List<JsonAdaptedJournalRecord> records)
+            throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append(System.lineSeparator());
+        }
+
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        }
+    }
+
+    /**
+     * Returns true if the journal at {@code journalPath} was started on the checkpoint with {@code checkpointChecksum}.
+     */
+    private static boolean isJournalOf(Path journalPath, long checkpointChecksum) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return false;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            Optional<JsonAdaptedJournalRecord> header = readRecord(reader.readLine());
+            return header.isPresent() && header.get().isCheckpointOf(checkpointChecksum);
+        }
+    }
+
+    /**
+     * Returns true if the journal at {@code journalPath} holds any records after its checkpoint header.
+     */
+    private static boolean hasRecords(Path journalPath) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return false;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            return reader.readLine() != null;
+        }
+    }
+
+    /**
+     * Returns true if the journal at {@code journalPath} belongs to the backup of the checkpoint at
+     * {@code checkpointPath}. The checkpoint was then written from the journal, but the save was interrupted before
+     * the journal was reset, so its records are already in the checkpoint.
+     */
+    private static boolean isFoldedIntoCheckpoint(Path journalPath, Path checkpointPath) throws IOException {
+        Path backupPath = FileUtil.getBackupFilePath(checkpointPath);
+        if (Files.exists(backupPath) && isJournalOf(journalPath, checksumOf(backupPath))) {
+            logger.info("Ignoring journal " + journalPath + " as it was already folded into the checkpoint");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Renames the journal at {@code journalPath} aside, so that its changes are kept for the user to recover.
+     */
+    private static void setAsideOrphanedJournal(Path journalPath) throws IOException {
+        Path orphanedPath = journalPath.resolveSibling(journalPath.getFileName() + "."
+                + LocalDateTime.now().format(ORPHANED_TIME_FORMAT) + ORPHANED_JOURNAL_FILE_EXTENSION);
+        Files.move(journalPath, orphanedPath, StandardCopyOption.REPLACE_EXISTING);
+        logger.warning("The data file next to journal " + journalPath + " was changed outside of TAConnect, so the "
+                + "changes in the journal could not be loaded. The journal was kept as " + orphanedPath);
+    }
+
+    /**
+     * Applies to {@code persons} the records in the journal at {@code journalPath}, after its checkpoint header.
+     * Replaying stops at the first record that cannot be read, such as one cut short by a crash.
+     *
+     * @return true if further records can be appended to the journal.
+     * @throws IllegalValueException if a readable record cannot be applied.
+     */
+    private static boolean replayJournal(Path journalPath, List<Person> persons)
+            throws IOException, IllegalValueException {
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            reader.readLine();
+
+            int replayedCount = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                Optional<JsonAdaptedJournalRecord> record = readRecord(line);
+                if (record.isEmpty()) {
+                    logger.warning("Stopped replaying journal " + journalPath + " at an unreadable record after "
+                            + replayedCount + " records");
+                    return false;
+                }
+                record.get().applyTo(persons);
+                replayedCount++;
+            }
+            logger.info("Replayed " + replayedCount + " records from journal " + journalPath);
+            return true;
+        }
+    }
+
+    private static Optional<JsonAdaptedJournalRecord> readRecord(String line) {
+        if (line == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the records that turn {@code before} into {@code after}, or an empty {@code Optional} if that needs
+     * the persons present in both to be reordered.
+     * Deletions are recorded from the back so that the recorded indexes stay valid while they are replayed, and
+     * additions are recorded at their final index from the front.
+     */
+    static Optional<List<JsonAdaptedJournalRecord>> recordChanges(List<Person> before, List<Person> after) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (after.isEmpty()) {
+            if (!before.isEmpty()) {
+                records.add(JsonAdaptedJournalRecord.clear());
+            }
+            return Optional.of(records);
+        }
+
+        Set<Person> personsBefore = new HashSet<>(before);
+        Set<Person> personsAfter = new HashSet<>(after);
+        List<Person> keptPersonsBefore = new ArrayList<>();
+        List<Person> keptPersonsAfter = new ArrayList<>();
+
+        for (int i = before.size() - 1; i >= 0; i--) {
+            if (!personsAfter.contains(before.get(i))) {
+                records.add(JsonAdaptedJournalRecord.delete(i));
+            }
+        }
+        for (Person person : before) {
+            if (personsAfter.contains(person)) {
+                keptPersonsBefore.add(person);
+            }
+        }
+        for (int i = 0; i < after.size(); i++) {
+            Person person = after.get(i);
+            if (personsBefore.contains(person)) {
+                keptPersonsAfter.add(person);
+            } else {
+                records.add(JsonAdaptedJournalRecord.add(i, person));
+            }
+        }
+
+        if (!keptPersonsBefore.equals(keptPersonsAfter)) {
+            return Optional.empty();
+        }
+        return Optional.of(records);
+    }
+
+    private static long checksumOf(Path filePath) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.getChecksum().getValue();
+        }
+    }
+}
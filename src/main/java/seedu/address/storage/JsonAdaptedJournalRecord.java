@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change recorded in the address book journal.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal contains an invalid record.";
+
+    static final String OPERATION_CHECKPOINT = "checkpoint";
+    static final String OPERATION_ADD = "add";
+    static final String OPERATION_DELETE = "delete";
+    static final String OPERATION_CLEAR = "clear";
+
+    private final String operation;
+    private final Long checksum;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") String operation,
+            @JsonProperty("checksum") Long checksum, @JsonProperty("index") Integer index,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.operation = operation;
+        this.checksum = checksum;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns the record that starts a journal kept on top of the checkpoint with the given {@code checksum}.
+     */
+    static JsonAdaptedJournalRecord checkpoint(long checksum) {
+        return new JsonAdaptedJournalRecord(OPERATION_CHECKPOINT, checksum, null, null);
+    }
+
+    /**
+     * Returns the record of {@code person} being inserted at {@code index}.
+     */
+    static JsonAdaptedJournalRecord add(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OPERATION_ADD, null, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns the record of the person at {@code index} being removed.
+     */
+    static JsonAdaptedJournalRecord delete(int index) {
+        return new JsonAdaptedJournalRecord(OPERATION_DELETE, null, index, null);
+    }
+
+    /**
+     * Returns the record of every person being removed.
+     */
+    static JsonAdaptedJournalRecord clear() {
+        return new JsonAdaptedJournalRecord(OPERATION_CLEAR, null, null, null);
+    }
+
+    /**
+     * Returns true if this record starts a journal kept on top of the checkpoint with the given {@code checksum}.
+     */
+    boolean isCheckpointOf(long checksum) {
+        return OPERATION_CHECKPOINT.equals(operation) && this.checksum != null && this.checksum == checksum;
+    }
+
+    /**
+     * Applies the change in this record to {@code persons}.
+     *
+     * @throws IllegalValueException if the record is malformed, does not fit {@code persons},
+     *     or holds an invalid person.
+     */
+    void applyTo(List<Person> persons) throws IllegalValueException {
+        if (OPERATION_ADD.equals(operation) && index != null && person != null
+                && index >= 0 && index <= persons.size()) {
+            persons.add(index, person.toModelType());
+        } else if (OPERATION_DELETE.equals(operation) && index != null
+                && index >= 0 && index < persons.size()) {
+            persons.remove((int) index);
+        } else if (OPERATION_CLEAR.equals(operation)) {
+            persons.clear();
+        } else {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Email;
@@ -10,6 +13,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Session;
 import seedu.address.model.person.TelegramUsername;
+import seedu.address.model.person.TrustedPersonFactory;
 import seedu.address.model.person.Type;
 
 /**
@@ -57,6 +61,25 @@ class JsonAdaptedPerson {
                 : null;
     }
 
+    /**
+     * Writes {@code source} to {@code generator} as the same JSON object that a {@code JsonAdaptedPerson} of it
+     * is serialized to, without creating one.
+     */
+    static void write(Person source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", source.getName().fullName);
+        generator.writeStringField("phone", source.getPhone().value);
+        generator.writeStringField("email", source.getEmail().value);
+        generator.writeStringField("type", source.getType().value);
+        generator.writeStringField("telegramUsername", source.getTelegramUsername().isPresent()
+                ? source.getTelegramUsername().get().value
+                : null);
+        generator.writeStringField("session", source.getSession().isPresent()
+                ? source.getSession().get().toString()
+                : null);
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -66,43 +89,33 @@ class JsonAdaptedPerson {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.ofValid(name)
+                .orElseThrow(() -> new IllegalValueException(Name.MESSAGE_CONSTRAINTS));
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = Phone.ofValid(phone)
+                .orElseThrow(() -> new IllegalValueException(Phone.MESSAGE_CONSTRAINTS));
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = Email.ofValid(email)
+                .orElseThrow(() -> new IllegalValueException(Email.MESSAGE_CONSTRAINTS));
 
         if (type == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Type.class.getSimpleName()));
         }
-        if (!Type.isValidType(type)) {
-            throw new IllegalValueException(Type.MESSAGE_CONSTRAINTS);
-        }
-        final Type modelType = new Type(type);
+        final Type modelType = Type.ofValid(type)
+                .orElseThrow(() -> new IllegalValueException(Type.MESSAGE_CONSTRAINTS));
 
         final TelegramUsername modelTelegram;
         if (telegramUsername == null) {
             modelTelegram = null;
         } else {
-            if (!TelegramUsername.isValidTelegramUsername(telegramUsername)) {
-                throw new IllegalValueException(TelegramUsername.MESSAGE_CONSTRAINTS);
-            }
-            modelTelegram = new TelegramUsername(telegramUsername);
+            modelTelegram = TelegramUsername.ofValid(telegramUsername)
+                    .orElseThrow(() -> new IllegalValueException(TelegramUsername.MESSAGE_CONSTRAINTS));
         }
 
         final Session modelSession;
@@ -110,10 +123,8 @@ class JsonAdaptedPerson {
             if (session == null) {
                 throw new IllegalValueException(Person.MESSAGE_STUDENT_TA);
             }
-            if (!Session.isValidSession(session)) {
-                throw new IllegalValueException(Session.MESSAGE_CONSTRAINTS);
-            }
-            modelSession = new Session(session);
+            modelSession = Session.ofValid(session)
+                    .orElseThrow(() -> new IllegalValueException(Session.MESSAGE_CONSTRAINTS));
         } else {
             if (session != null) {
                 throw new IllegalValueException(Person.MESSAGE_INSTRUCTOR_STAFF);
@@ -124,4 +135,13 @@ class JsonAdaptedPerson {
         return new Person(modelName, modelPhone, modelEmail, modelType, modelTelegram, modelSession);
     }
 
+    /**
+     * Converts this adapted person into the model's {@code Person} object with {@code personFactory}, without
+     * validating its fields.
+     * Only for persons read from a data file that is known to have been written by this app.
+     */
+    public Person toTrustedModelType(TrustedPersonFactory personFactory) {
+        return personFactory.create(name, phone, email, type, telegramUsername, session);
+    }
+
 }
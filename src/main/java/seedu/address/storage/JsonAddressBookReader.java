@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an AddressBook in the format of {@link JsonSerializableAddressBook} from a stream of JSON.
+ * Persons are converted into the model's {@code Person}s in batches as they are read, so the whole file is never held
+ * in memory as text or as {@code JsonAdaptedPerson}s.
+ */
+class JsonAddressBookReader {
+
+    private static final String PERSONS_FIELD = "persons";
+
+    /** Number of persons read before they are converted together, in parallel. */
+    private static final int CONVERSION_BATCH_SIZE = 32 * JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE;
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book from {@code jsonStream}, leaving the stream open.
+     *
+     * @throws IOException if the stream cannot be read or does not hold an address book in JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream jsonStream) throws IOException, IllegalValueException {
+        return read(jsonStream, false);
+    }
+
+    /**
+     * Reads the address book from {@code jsonStream}, leaving the stream open.
+     * If {@code isTrusted}, the fields of each person are not validated, so the stream must be known to hold an
+     * address book written by this app.
+     *
+     * @throws IOException if the stream cannot be read or does not hold an address book in JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream jsonStream, boolean isTrusted) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(jsonStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+
+            AddressBook addressBook = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    addressBook = readPersons(parser, isTrusted);
+                } else {
+                    // like JsonUtil, unknown fields are ignored
+                    parser.skipChildren();
+                }
+            }
+
+            if (addressBook == null) {
+                throw new JsonParseException(parser, "Expected a list of persons");
+            }
+            return addressBook;
+        }
+    }
+
+    /**
+     * Reads the elements of the persons array that {@code parser} is at the start of.
+     */
+    private static AddressBook readPersons(JsonParser parser, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        try {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.getCurrentToken() == null) {
+                    throw new JsonParseException(parser, "Unexpected end of the list of persons");
+                }
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == CONVERSION_BATCH_SIZE) {
+                    JsonSerializableAddressBook.addPersonsChecked(addressBook, batch, isTrusted);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            // errors in the persons before the one that could not be read are reported first, as in file order
+            JsonSerializableAddressBook.addPersonsChecked(addressBook, batch, isTrusted);
+            throw e;
+        }
+        JsonSerializableAddressBook.addPersonsChecked(addressBook, batch, isTrusted);
+        return addressBook;
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an AddressBook to a stream of JSON in the format of {@link JsonSerializableAddressBook}.
+ * Each person is written as soon as it is reached, so saving does not build the whole file in memory as text or as
+ * {@code JsonAdaptedPerson}s.
+ */
+class JsonAddressBookWriter {
+
+    private static final String PERSONS_FIELD = "persons";
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code jsonStream} and flushes it, leaving the stream open.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream jsonStream) throws IOException {
+        write(addressBook.getPersonList(), jsonStream);
+    }
+
+    /**
+     * Writes an address book holding {@code persons} to {@code jsonStream} and flushes it, leaving the stream open.
+     */
+    static void write(List<Person> persons, OutputStream jsonStream) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(jsonStream)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : persons) {
+                JsonAdaptedPerson.write(person, generator);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
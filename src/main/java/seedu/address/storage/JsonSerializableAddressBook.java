@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -16,6 +17,7 @@ import seedu.address.model.PersonAndSessionCounter;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Session;
+import seedu.address.model.person.TrustedPersonFactory;
 
 
 /**
@@ -31,6 +33,9 @@ class JsonSerializableAddressBook {
                                    "Persons list contains more than maximum "
                                    + AddCommand.MAX_SESSION_COUNT + " session limit.";
 
+    /** Largest number of persons converted by a single task when converting persons in parallel. */
+    static final int CONVERSION_CHUNK_SIZE = 128;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -57,22 +62,125 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        addPersonsChecked(addressBook, persons, false);
+        return addressBook;
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding {@code persons}, checked against the same constraints as
+     * {@link #toModelType()}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook toModelType(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addPersonChecked(addressBook, person);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} into the model's {@code Person}s and adds them to {@code addressBook} in
+     * order, checked against the same constraints as {@link #toModelType()}.
+     * The persons are converted in parallel, but they are checked and added one by one, so the error reported is
+     * always the one for the first offending person in {@code jsonAdaptedPersons}.
+     *
+     * @param isTrusted whether the fields of the persons are known to be valid and need not be validated.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addPersonsChecked(AddressBook addressBook, List<JsonAdaptedPerson> jsonAdaptedPersons,
+            boolean isTrusted) throws IllegalValueException {
+        ConversionTask conversion = new ConversionTask(jsonAdaptedPersons,
+                isTrusted ? new TrustedPersonFactory() : null);
+        conversion.invoke();
+        for (int i = 0; i < jsonAdaptedPersons.size(); i++) {
+            if (conversion.errors[i] != null) {
+                throw conversion.errors[i];
             }
-            PersonAndSessionCounter counter = addressBook.getCounter();
-            if (counter.getPersonCountIfPersonAdded() > AddCommand.MAX_PERSON_COUNT) {
-                throw new IllegalValueException(MESSAGE_MAX_PERSON_COUNT_REACHED);
+            addPersonChecked(addressBook, conversion.persons[i]);
+        }
+    }
+
+    /**
+     * Adds {@code person} to {@code addressBook}, checked against the same constraints as {@link #toModelType()}.
+     * The session of {@code person} is checked against its type here too, as persons created without validation,
+     * such as those read from a data file with an intact checksum, have not been checked for it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addPersonChecked(AddressBook addressBook, Person person) throws IllegalValueException {
+        Optional<Session> s = person.getSession();
+        boolean isSessionRequired = person.getType().isStudent() || person.getType().isTa();
+        if (isSessionRequired && s.isEmpty()) {
+            throw new IllegalValueException(Person.MESSAGE_STUDENT_TA);
+        }
+        if (!isSessionRequired && s.isPresent()) {
+            throw new IllegalValueException(Person.MESSAGE_INSTRUCTOR_STAFF);
+        }
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        PersonAndSessionCounter counter = addressBook.getCounter();
+        if (counter.getPersonCountIfPersonAdded() > AddCommand.MAX_PERSON_COUNT) {
+            throw new IllegalValueException(MESSAGE_MAX_PERSON_COUNT_REACHED);
+        }
+        if (s.isPresent() && counter.getUniqueSessionCountIfSessionAdded(s.get()) > AddCommand.MAX_SESSION_COUNT) {
+            throw new IllegalValueException(MESSAGE_MAX_SESSION_COUNT_REACHED);
+        }
+        addressBook.addPerson(person);
+    }
+
+    /**
+     * Converts a range of adapted persons into the model's {@code Person}s, splitting it into subtasks that run in
+     * parallel until each has at most {@link #CONVERSION_CHUNK_SIZE} persons.
+     * Each person's result is recorded at its position in the shared arrays: the converted person, or the error
+     * raised while converting it.
+     */
+    private static class ConversionTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<JsonAdaptedPerson> jsonAdaptedPersons;
+        private final TrustedPersonFactory trustedPersonFactory; // null if the persons must be validated
+        private final Person[] persons;
+        private final IllegalValueException[] errors;
+        private final int from;
+        private final int to;
+
+        ConversionTask(List<JsonAdaptedPerson> jsonAdaptedPersons, TrustedPersonFactory trustedPersonFactory) {
+            this(jsonAdaptedPersons, trustedPersonFactory, new Person[jsonAdaptedPersons.size()],
+                    new IllegalValueException[jsonAdaptedPersons.size()], 0, jsonAdaptedPersons.size());
+        }
+
+        private ConversionTask(List<JsonAdaptedPerson> jsonAdaptedPersons, TrustedPersonFactory trustedPersonFactory,
+                Person[] persons, IllegalValueException[] errors, int from, int to) {
+            this.jsonAdaptedPersons = jsonAdaptedPersons;
+            this.trustedPersonFactory = trustedPersonFactory;
+            this.persons = persons;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CONVERSION_CHUNK_SIZE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ConversionTask(jsonAdaptedPersons, trustedPersonFactory, persons, errors, from, mid),
+                        new ConversionTask(jsonAdaptedPersons, trustedPersonFactory, persons, errors, mid, to));
+                return;
             }
-            Optional<Session> s = person.getSession();
-            if (s.isPresent() && counter.getUniqueSessionCountIfSessionAdded(s.get()) > AddCommand.MAX_SESSION_COUNT) {
-                throw new IllegalValueException(MESSAGE_MAX_SESSION_COUNT_REACHED);
+
+            for (int i = from; i < to; i++) {
+                JsonAdaptedPerson jsonAdaptedPerson = jsonAdaptedPersons.get(i);
+                try {
+                    persons[i] = trustedPersonFactory != null
+                            ? jsonAdaptedPerson.toTrustedModelType(trustedPersonFactory)
+                            : jsonAdaptedPerson.toModelType();
+                } catch (IllegalValueException ive) {
+                    errors[i] = ive;
+                }
             }
-            addressBook.addPerson(person);
         }
-        return addressBook;
     }
-
 }
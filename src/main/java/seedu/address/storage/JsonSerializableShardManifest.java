@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest of an address book stored as shards by {@link ShardedAddressBookStorage}.
+ *
+ * The manifest names the file, checksum and size of each shard. Since the persons of different shards are
+ * interleaved in the address book, it also records their order as runs: pairs of the position of a shard in
+ * {@code shards} and the number of consecutive persons taken from it.
+ */
+class JsonSerializableShardManifest {
+
+    public static final String MESSAGE_INVALID_MANIFEST = "Shard manifest is malformed.";
+
+    private final long generation;
+    private final List<JsonAdaptedShard> shards = new ArrayList<>();
+    private final List<Integer> order = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonSerializableShardManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("shards") List<JsonAdaptedShard> shards, @JsonProperty("order") List<Integer> order) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+        if (order != null) {
+            this.order.addAll(order);
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<JsonAdaptedShard> getShards() {
+        return shards;
+    }
+
+    public List<Integer> getOrder() {
+        return order;
+    }
+
+    /**
+     * Checks that the shards have distinct keys and files, and that the runs in {@code order} take exactly as many
+     * persons from each shard as its size.
+     *
+     * @throws IllegalValueException if the manifest is inconsistent.
+     */
+    void validate() throws IllegalValueException {
+        Set<String> keys = new HashSet<>();
+        Set<String> files = new HashSet<>();
+        for (JsonAdaptedShard shard : shards) {
+            if (shard == null || shard.key == null || shard.file == null || shard.size < 0
+                    || !keys.add(shard.key) || !files.add(shard.file)) {
+                throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+            }
+        }
+
+        if (order.size() % 2 != 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+        }
+        long[] remaining = new long[shards.size()];
+        for (int i = 0; i < shards.size(); i++) {
+            remaining[i] = shards.get(i).size;
+        }
+        for (int i = 0; i < order.size(); i += 2) {
+            Integer shardPosition = order.get(i);
+            Integer runLength = order.get(i + 1);
+            if (shardPosition == null || runLength == null || shardPosition < 0 || shardPosition >= shards.size()
+                    || runLength <= 0 || runLength > remaining[shardPosition]) {
+                throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+            }
+            remaining[shardPosition] -= runLength;
+        }
+        for (long count : remaining) {
+            if (count != 0) {
+                throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly version of the entry of a single shard in the manifest.
+     */
+    static class JsonAdaptedShard {
+        private final String key;
+        private final String file;
+        private final long checksum;
+        private final int size;
+
+        /**
+         * Constructs a {@code JsonAdaptedShard} with the given shard details.
+         */
+        @JsonCreator
+        public JsonAdaptedShard(@JsonProperty("key") String key, @JsonProperty("file") String file,
+                @JsonProperty("checksum") long checksum, @JsonProperty("size") int size) {
+            this.key = key;
+            this.file = file;
+            this.checksum = checksum;
+            this.size = size;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public long getChecksum() {
+            return checksum;
+        }
+
+        public int getSize() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonSerializableShardManifest.JsonAdaptedShard;
+
+/**
+ * A class to access AddressBook data stored as one json file per session on the hard disk, plus one for the
+ * persons without a session, i.e. instructors and staff.
+ *
+ * The file at the address book file path is a manifest, see {@link JsonSerializableShardManifest}. The shards sit in
+ * a directory next to it, with {@link #SHARD_DIRECTORY_SUFFIX} appended to its name, and have the same format as the
+ * file written by {@link JsonAddressBookStorage}. Each save only writes the shards whose persons changed since the
+ * last save, under a new file name, and then the manifest. The manifest is replaced atomically, and until it is
+ * replaced it still names the previous files, so an interrupted save leaves the previous data intact. Shards are
+ * read in parallel, and the fields of a shard that matches the checksum in the manifest are not validated again.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".d";
+
+    /** Key of the shard of the persons without a session. Sessions are upper case, so no session has this key. */
+    static final String NO_SESSION_SHARD_KEY = "staff";
+
+    private static final String SHARD_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+
+    /** The shards named by the manifest at {@code filePath} by key, or null if they are not known. */
+    private Map<String, StoredShard> storedShards;
+    private long storedGeneration;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory holding the shards of the manifest at {@code manifestPath}.
+     */
+    public static Path getShardDirectory(Path manifestPath) {
+        return manifestPath.resolveSibling(manifestPath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Loads the shards named by the manifest at {@code filePath}, in parallel.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonSerializableShardManifest manifest = readManifest(filePath);
+            List<JsonAdaptedShard> shards = manifest.getShards();
+            List<List<Person>> shardPersons = readShards(getShardDirectory(filePath), shards);
+
+            // interleave the persons of the shards back into their order in the address book
+            List<Person> persons = new ArrayList<>();
+            int[] taken = new int[shards.size()];
+            List<Integer> order = manifest.getOrder();
+            for (int i = 0; i < order.size(); i += 2) {
+                int shardPosition = order.get(i);
+                int runLength = order.get(i + 1);
+                persons.addAll(shardPersons.get(shardPosition).subList(taken[shardPosition],
+                        taken[shardPosition] + runLength));
+                taken[shardPosition] += runLength;
+            }
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.toModelType(persons);
+
+            if (filePath.equals(this.filePath)) {
+                storedShards = new HashMap<>();
+                for (int i = 0; i < shards.size(); i++) {
+                    JsonAdaptedShard shard = shards.get(i);
+                    storedShards.put(shard.getKey(),
+                            new StoredShard(shard.getFile(), shard.getChecksum(), shardPersons.get(i)));
+                }
+                storedGeneration = manifest.getGeneration();
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes the shards that changed since the last save, and then the manifest at {@code filePath}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Map<String, List<Person>> shardPersons = new LinkedHashMap<>();
+        List<Integer> order = new ArrayList<>();
+        splitIntoShards(addressBook.getPersonList(), shardPersons, order);
+
+        boolean isStored = filePath.equals(this.filePath) && storedShards != null;
+        long generation = (isStored ? storedGeneration : readGeneration(filePath)) + 1;
+        Path shardDirectory = getShardDirectory(filePath);
+        Files.createDirectories(shardDirectory);
+
+        List<JsonAdaptedShard> shards = new ArrayList<>();
+        Map<String, StoredShard> newStoredShards = new HashMap<>();
+        for (Map.Entry<String, List<Person>> entry : shardPersons.entrySet()) {
+            StoredShard storedShard = isStored ? storedShards.get(entry.getKey()) : null;
+            if (storedShard == null || !storedShard.persons.equals(entry.getValue())
+                    || !Files.exists(shardDirectory.resolve(storedShard.file))) {
+                storedShard = writeShard(shardDirectory, entry.getKey(), generation, entry.getValue());
+            }
+            shards.add(new JsonAdaptedShard(entry.getKey(), storedShard.file, storedShard.checksum,
+                    storedShard.persons.size()));
+            newStoredShards.put(entry.getKey(), storedShard);
+        }
+
+        // the new shards are synced to disk before the manifest that names them replaces the previous one
+        FileUtil.syncDirectory(shardDirectory);
+        writeManifest(new JsonSerializableShardManifest(generation, shards, order), filePath);
+        deleteUnusedShards(shardDirectory, newStoredShards);
+
+        if (filePath.equals(this.filePath)) {
+            storedShards = newStoredShards;
+            storedGeneration = generation;
+        }
+    }
+
+    /**
+     * Writes {@code manifest} to {@code filePath} through a temporary file, so that the previous manifest is only
+     * replaced once the new one is complete and synced to disk.
+     */
+    private static void writeManifest(JsonSerializableShardManifest manifest, Path filePath) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(JsonUtil.toJsonString(manifest).getBytes(StandardCharsets.UTF_8));
+        FileUtil.writeToFileAtomically(filePath, channel -> {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+    }
+
+    /**
+     * Puts each of {@code persons} into the shard of its session in {@code shardPersons}, and appends to
+     * {@code order} the runs that interleave the shards back into {@code persons}.
+     */
+    static void splitIntoShards(List<Person> persons, Map<String, List<Person>> shardPersons, List<Integer> order) {
+        Map<String, Integer> shardPositions = new HashMap<>();
+        int currentShardPosition = -1;
+        int runLength = 0;
+        for (Person person : persons) {
+            String key = getShardKey(person);
+            shardPersons.computeIfAbsent(key, unused -> new ArrayList<>()).add(person);
+            int shardPosition = shardPositions.computeIfAbsent(key, unused -> shardPositions.size());
+            if (shardPosition != currentShardPosition && runLength > 0) {
+                order.add(currentShardPosition);
+                order.add(runLength);
+                runLength = 0;
+            }
+            currentShardPosition = shardPosition;
+            runLength++;
+        }
+        if (runLength > 0) {
+            order.add(currentShardPosition);
+            order.add(runLength);
+        }
+    }
+
+    /**
+     * Returns the key of the shard that {@code person} is stored in.
+     */
+    static String getShardKey(Person person) {
+        return person.getSession().map(session -> session.value).orElse(NO_SESSION_SHARD_KEY);
+    }
+
+    private static StoredShard writeShard(Path shardDirectory, String key, long generation, List<Person> persons)
+            throws IOException {
+        String file = key + "." + generation + SHARD_FILE_EXTENSION;
+        logger.fine("Writing shard " + key + " to " + file);
+        try (FileChannel channel = FileChannel.open(shardDirectory.resolve(file), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CheckedOutputStream shard = new CheckedOutputStream(Channels.newOutputStream(channel), new CRC32());
+            JsonAddressBookWriter.write(persons, shard);
+            channel.force(true);
+            return new StoredShard(file, shard.getChecksum().getValue(), new ArrayList<>(persons));
+        }
+    }
+
+    /**
+     * Deletes the shard files in {@code shardDirectory} that are no longer named by the manifest.
+     * Failing to delete a file is not an error, as it is only taking up space.
+     */
+    private static void deleteUnusedShards(Path shardDirectory, Map<String, StoredShard> usedShards) {
+        Set<Path> usedFiles = new HashSet<>();
+        for (StoredShard shard : usedShards.values()) {
+            usedFiles.add(shardDirectory.resolve(shard.file));
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path file : files) {
+                if (!usedFiles.contains(file)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to delete unused shards in " + shardDirectory + ": " + e);
+        }
+    }
+
+    private static JsonSerializableShardManifest readManifest(Path manifestPath)
+            throws IOException, IllegalValueException {
+        JsonSerializableShardManifest manifest = JsonUtil.fromJsonString(Files.readString(manifestPath),
+                JsonSerializableShardManifest.class);
+        manifest.validate();
+        return manifest;
+    }
+
+    /**
+     * Returns the generation of the manifest at {@code manifestPath}, or 0 if there is no readable manifest there.
+     */
+    private static long readGeneration(Path manifestPath) {
+        if (!Files.exists(manifestPath)) {
+            return 0;
+        }
+        try {
+            return readManifest(manifestPath).getGeneration();
+        } catch (IOException | IllegalValueException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the persons in each of {@code shards}, read in parallel.
+     */
+    private static List<List<Person>> readShards(Path shardDirectory, List<JsonAdaptedShard> shards)
+            throws IOException, IllegalValueException {
+        List<Callable<List<Person>>> reads = new ArrayList<>();
+        for (JsonAdaptedShard shard : shards) {
+            Path shardPath = shardDirectory.resolve(shard.getFile()).normalize();
+            if (!shardDirectory.normalize().equals(shardPath.getParent())) {
+                throw new IllegalValueException(JsonSerializableShardManifest.MESSAGE_INVALID_MANIFEST);
+            }
+            reads.add(() -> readShard(shardPath, shard));
+        }
+
+        List<List<Person>> shardPersons = new ArrayList<>();
+        try {
+            for (Future<List<Person>> read : ForkJoinPool.commonPool().invokeAll(reads)) {
+                shardPersons.add(read.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading shards", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+        return shardPersons;
+    }
+
+    private static List<Person> readShard(Path shardPath, JsonAdaptedShard shard)
+            throws IOException, IllegalValueException {
+        byte[] content = Files.readAllBytes(shardPath);
+        CRC32 checksum = new CRC32();
+        checksum.update(content);
+
+        // a shard that still matches the checksum in the manifest is exactly as this app wrote it
+        boolean isIntact = checksum.getValue() == shard.getChecksum();
+        List<Person> persons = JsonAddressBookReader.read(new ByteArrayInputStream(content), isIntact)
+                .getPersonList();
+        if (persons.size() != shard.getSize()) {
+            throw new IllegalValueException(JsonSerializableShardManifest.MESSAGE_INVALID_MANIFEST);
+        }
+        return new ArrayList<>(persons);
+    }
+
+    /**
+     * A shard as written to disk.
+     */
+    private static class StoredShard {
+        private final String file;
+        private final long checksum;
+        private final List<Person> persons;
+
+        private StoredShard(String file, long checksum, List<Person> persons) {
+            this.file = file;
+            this.checksum = checksum;
+            this.persons = persons;
+        }
+    }
+}
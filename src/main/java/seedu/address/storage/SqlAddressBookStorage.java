@@ -0,0 +1,422 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 SQL database on the hard disk.
+ *
+ * Each person is a row of the {@code persons} table, which is indexed on email and session. Rows are ordered by a
+ * position that leaves gaps between neighbouring persons, so that a person can be inserted anywhere without moving
+ * the others. Each save deletes and inserts only the rows of the persons that changed since the last save, in a
+ * single transaction, unless the persons were reordered, in which case all rows are written again.
+ * The connection to the database at {@link #getAddressBookFilePath()} is opened when it is first used and kept open
+ * until {@link #closeAddressBook()}, so that saves do not pay for opening the database each time.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    /** The extension H2 appends to the database path to name the file the database is stored in. */
+    public static final String DATABASE_FILE_EXTENSION = ".mv.db";
+
+    /** Separates the settings in an H2 URL, which cannot be escaped within the database path. */
+    static final String URL_SETTING_SEPARATOR = ";";
+
+    /** Distance between the positions of neighbouring persons when all rows are written. */
+    static final long POSITION_GAP = 1L << 20;
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS persons ("
+            + "position BIGINT PRIMARY KEY, name VARCHAR NOT NULL, phone VARCHAR NOT NULL, email VARCHAR NOT NULL, "
+            + "type VARCHAR NOT NULL, telegram_username VARCHAR, session VARCHAR)";
+    private static final String CREATE_EMAIL_INDEX = "CREATE INDEX IF NOT EXISTS persons_email ON persons(email)";
+    private static final String CREATE_SESSION_INDEX =
+            "CREATE INDEX IF NOT EXISTS persons_session ON persons(session)";
+    private static final String SELECT_ALL = "SELECT position, name, phone, email, type, telegram_username, session "
+            + "FROM persons ORDER BY position";
+    private static final String INSERT = "INSERT INTO persons "
+            + "(position, name, phone, email, type, telegram_username, session) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE = "DELETE FROM persons WHERE position = ?";
+    private static final String DELETE_ALL = "DELETE FROM persons";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private final Path filePath;
+
+    /** The rows of the database at {@code filePath} in order, or null if they are not known. */
+    private List<StoredRow> storedRows;
+
+    /** The open connection to the database at {@code filePath}, or null if it is not open. */
+    private Connection connection;
+
+    public SqlAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the file that H2 stores the database at {@code databasePath} in.
+     */
+    public static Path getDatabaseFilePath(Path databasePath) {
+        return databasePath.resolveSibling(databasePath.getFileName() + DATABASE_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the database. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(getDatabaseFilePath(filePath))) {
+            return Optional.empty();
+        }
+
+        List<Long> positions = new ArrayList<>();
+        List<JsonAdaptedPerson> rows = new ArrayList<>();
+        try {
+            Connection connection = getConnection(filePath);
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(SELECT_ALL)) {
+                while (resultSet.next()) {
+                    positions.add(resultSet.getLong(1));
+                    rows.add(new JsonAdaptedPerson(resultSet.getString(2), resultSet.getString(3),
+                            resultSet.getString(4), resultSet.getString(5), resultSet.getString(6),
+                            resultSet.getString(7)));
+                }
+                connection.commit();
+            } finally {
+                releaseConnection(connection);
+            }
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            if (filePath.equals(this.filePath)) {
+                closeConnection();
+            }
+            throw new DataLoadingException(e);
+        }
+
+        try {
+            // the database can be changed by other programs, so its rows are validated like a json file
+            AddressBook addressBook = new AddressBook();
+            JsonSerializableAddressBook.addPersonsChecked(addressBook, rows, false);
+            if (filePath.equals(this.filePath)) {
+                storedRows = new ArrayList<>();
+                List<Person> persons = addressBook.getPersonList();
+                for (int i = 0; i < persons.size(); i++) {
+                    storedRows.add(new StoredRow(positions.get(i), persons.get(i)));
+                }
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Deletes and inserts the rows of the persons that changed since the last save to the database at
+     * {@code filePath}, or writes all rows again if that is not possible.
+     *
+     * @param filePath location of the database. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        boolean isStored = filePath.equals(this.filePath) && storedRows != null;
+        Files.createDirectories(filePath.toAbsolutePath().getParent());
+        try {
+            Connection connection = getConnection(filePath);
+            try {
+                createSchema(connection);
+                List<StoredRow> rows = isStored ? updateRows(connection, storedRows, persons) : null;
+                if (rows == null) {
+                    rows = replaceRows(connection, persons);
+                }
+                connection.commit();
+
+                if (filePath.equals(this.filePath)) {
+                    storedRows = rows;
+                }
+            } finally {
+                releaseConnection(connection);
+            }
+        } catch (SQLException e) {
+            if (filePath.equals(this.filePath)) {
+                // the transaction may or may not have been committed, so the next save writes all rows again
+                storedRows = null;
+                closeConnection();
+            }
+            throw new IOException("Could not write to database " + filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Closes the connection to the database at {@link #getAddressBookFilePath()}, if it is open.
+     * A later read or save opens it again.
+     */
+    @Override
+    public void closeAddressBook() throws IOException {
+        try {
+            if (connection != null) {
+                connection.close();
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not close database " + filePath + ": " + e.getMessage(), e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    /**
+     * Returns a connection to the database at {@code filePath}, which is kept open if it is the database of this
+     * storage, or opened just for the caller otherwise. Either way, it is to be handed back to
+     * {@link #releaseConnection} once done with.
+     */
+    private Connection getConnection(Path filePath) throws SQLException {
+        if (!filePath.equals(this.filePath)) {
+            return openConnection(filePath);
+        }
+        if (connection == null) {
+            connection = openConnection(filePath);
+        }
+        return connection;
+    }
+
+    private void releaseConnection(Connection connection) throws SQLException {
+        if (connection != this.connection) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Closes the kept connection after a failed read or save, as it may be left in any state.
+     */
+    private void closeConnection() {
+        try {
+            closeAddressBook();
+        } catch (IOException e) {
+            logger.warning(e.getMessage());
+        }
+    }
+
+    /**
+     * Opens a connection to the database at {@code filePath}, with transactions committed explicitly.
+     *
+     * @throws SQLException if {@code filePath} contains {@link #URL_SETTING_SEPARATOR}, which H2 would read as the
+     *     start of further settings in the URL rather than as part of the path.
+     */
+    private static Connection openConnection(Path filePath) throws SQLException {
+        String databasePath = filePath.toAbsolutePath().toString();
+        if (databasePath.contains(URL_SETTING_SEPARATOR)) {
+            throw new SQLException("Database path must not contain '" + URL_SETTING_SEPARATOR + "': " + databasePath);
+        }
+        Connection connection = DriverManager.getConnection("jdbc:h2:file:" + databasePath);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private static void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE);
+            statement.execute(CREATE_EMAIL_INDEX);
+            statement.execute(CREATE_SESSION_INDEX);
+        }
+    }
+
+    /**
+     * Turns the rows {@code before} into rows holding {@code after} by deleting the rows of persons no longer in
+     * {@code after} and inserting rows for persons new in {@code after}, positioned between their neighbours.
+     *
+     * @return the rows holding {@code after}, or null if nothing was changed because that needs the persons present
+     *     in both to be reordered, or there is no gap left to insert a person into.
+     */
+    private static List<StoredRow> updateRows(Connection connection, List<StoredRow> before, List<Person> after)
+            throws SQLException {
+        Optional<List<StoredRow>> rows = planRows(before, after);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        // kept rows are reused as they are, while a new row may take the position of a deleted one
+        Set<StoredRow> rowsAfter = Collections.newSetFromMap(new IdentityHashMap<>());
+        rowsAfter.addAll(rows.get());
+        Set<StoredRow> rowsBefore = Collections.newSetFromMap(new IdentityHashMap<>());
+        rowsBefore.addAll(before);
+        List<StoredRow> deletedRows = new ArrayList<>();
+        for (StoredRow row : before) {
+            if (!rowsAfter.contains(row)) {
+                deletedRows.add(row);
+            }
+        }
+        List<StoredRow> insertedRows = new ArrayList<>();
+        for (StoredRow row : rows.get()) {
+            if (!rowsBefore.contains(row)) {
+                insertedRows.add(row);
+            }
+        }
+
+        deleteRows(connection, deletedRows);
+        insertRows(connection, insertedRows);
+        logger.fine("Deleted " + deletedRows.size() + " and inserted " + insertedRows.size() + " rows");
+        return rows.get();
+    }
+
+    /**
+     * Returns the rows holding {@code after}, keeping the rows in {@code before} of the persons that are still
+     * present and giving each new person a position between those of its neighbours.
+     * Returns an empty {@code Optional} if that needs the persons present in both to be reordered, or there is no
+     * gap left between two neighbours for the persons new between them.
+     */
+    static Optional<List<StoredRow>> planRows(List<StoredRow> before, List<Person> after) {
+        Set<Person> personsAfter = new HashSet<>(after);
+        List<StoredRow> keptRows = new ArrayList<>();
+        for (StoredRow row : before) {
+            if (personsAfter.contains(row.person)) {
+                keptRows.add(row);
+            }
+        }
+
+        List<StoredRow> rows = new ArrayList<>(after.size());
+        int nextKept = 0;
+        long previousPosition = 0;
+        int i = 0;
+        while (i < after.size()) {
+            Person person = after.get(i);
+            if (nextKept < keptRows.size() && keptRows.get(nextKept).person.equals(person)) {
+                StoredRow keptRow = keptRows.get(nextKept++);
+                rows.add(keptRow);
+                previousPosition = keptRow.position;
+                i++;
+                continue;
+            }
+
+            // the persons up to the next kept one are new, and are spread evenly over the gap before it
+            int runEnd = i;
+            while (runEnd < after.size()
+                    && (nextKept >= keptRows.size() || !keptRows.get(nextKept).person.equals(after.get(runEnd)))) {
+                runEnd++;
+            }
+            int runLength = runEnd - i;
+            long step = nextKept < keptRows.size()
+                    ? (keptRows.get(nextKept).position - previousPosition) / (runLength + 1)
+                    : POSITION_GAP;
+            if (step <= 0) {
+                return Optional.empty();
+            }
+            for (; i < runEnd; i++) {
+                previousPosition += step;
+                rows.add(new StoredRow(previousPosition, after.get(i)));
+            }
+        }
+
+        if (nextKept != keptRows.size()) {
+            // a kept person was passed over, so the kept persons are not in the same order as before
+            return Optional.empty();
+        }
+        return Optional.of(rows);
+    }
+
+    private static List<StoredRow> replaceRows(Connection connection, List<Person> persons) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(DELETE_ALL);
+        }
+        List<StoredRow> rows = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            rows.add(new StoredRow((i + 1) * POSITION_GAP, persons.get(i)));
+        }
+        insertRows(connection, rows);
+        logger.fine("Wrote all " + rows.size() + " rows");
+        return rows;
+    }
+
+    private static void deleteRows(Connection connection, List<StoredRow> rows) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement(DELETE)) {
+            for (StoredRow row : rows) {
+                delete.setLong(1, row.position);
+                delete.addBatch();
+            }
+            delete.executeBatch();
+        }
+    }
+
+    private static void insertRows(Connection connection, List<StoredRow> rows) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            for (StoredRow row : rows) {
+                Person person = row.person;
+                insert.setLong(1, row.position);
+                insert.setString(2, person.getName().fullName);
+                insert.setString(3, person.getPhone().value);
+                insert.setString(4, person.getEmail().value);
+                insert.setString(5, person.getType().value);
+                insert.setString(6, person.getTelegramUsername().map(telegramUsername -> telegramUsername.value)
+                        .orElse(null));
+                insert.setString(7, person.getSession().map(session -> session.value).orElse(null));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    /**
+     * A person as stored in the database, at its position.
+     */
+    static class StoredRow {
+        private final long position;
+        private final Person person;
+
+        StoredRow(long position, Person person) {
+            this.position = position;
+            this.person = person;
+        }
+
+        long getPosition() {
+            return position;
+        }
+
+        Person getPerson() {
+            return person;
+        }
+    }
+}
@@ -3,7 +3,9 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -23,10 +25,31 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     Path getAddressBookFilePath();
 
+    /**
+     * Makes later reads and saves of the address book use the file at {@code filePath} in the given {@code format}.
+     * Saves already requested may be written to either file. The previous data file is closed.
+     */
+    void setAddressBookFile(Path filePath, AddressBookFormat format);
+
     @Override
     Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException;
 
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves an immutable snapshot of {@code addressBook} on a background thread and returns immediately.
+     * Saves that are still waiting to be written are replaced by the newer one.
+     *
+     * @param failureHandler called on the background thread if the save fails.
+     */
+    void saveAddressBookInBackground(ReadOnlyAddressBook addressBook, Consumer<IOException> failureHandler);
+
+    /**
+     * Waits until every background save requested so far has been written.
+     *
+     * @throws IOException if the latest background save failed.
+     */
+    void flushAddressBook() throws IOException;
+
 }
@@ -1,25 +1,51 @@
 package seedu.address.storage;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Background saves are written one at a time by a single writer thread; a save requested while another is still
+ * waiting to be written replaces it, so a burst of changes results in a single write of the latest data.
+ * Data files replace their previous generation atomically and keep it as a backup, which is read instead if the
+ * latest generation cannot be loaded. A missing data file is not recovered from its backup, as the data file is
+ * present throughout a save and so was removed on purpose.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private AddressBookStorage addressBookStorage;
+    private volatile AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService addressBookWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<PendingSave> pendingSave = new AtomicReference<>();
+    private final Object addressBookFileLock = new Object();
+    private volatile IOException lastBackgroundSaveFailure;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -28,6 +54,25 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} for the address book file at {@code filePath} in the given {@code format}.
+     */
+    public static AddressBookStorage createAddressBookStorage(AddressBookFormat format, Path filePath) {
+        requireAllNonNull(format, filePath);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+            return new JournalAddressBookStorage(filePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath);
+        case SQL:
+            return new SqlAddressBookStorage(filePath);
+        default:
+            throw new IllegalArgumentException("Unknown address book format: " + format);
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -53,6 +98,19 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    @Override
+    public void setAddressBookFile(Path filePath, AddressBookFormat format) {
+        requireAllNonNull(filePath, format);
+        synchronized (addressBookFileLock) {
+            try {
+                addressBookStorage.closeAddressBook();
+            } catch (IOException e) {
+                logger.warning("Failed to close previous data file " + StringUtil.getDetails(e));
+            }
+            addressBookStorage = createAddressBookStorage(format, filePath);
+        }
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
@@ -61,18 +119,124 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        AddressBookStorage storage = addressBookStorage;
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = storage.readAddressBook(filePath);
+        } catch (DataLoadingException e) {
+            Optional<ReadOnlyAddressBook> backupAddressBook = readBackupAddressBook(storage, filePath);
+            if (backupAddressBook.isEmpty()) {
+                throw e;
+            }
+            return backupAddressBook;
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the previous generation of the data file at {@code filePath}, kept as its backup by
+     * {@link FileUtil#writeToFileKeepingBackup}, or {@code Optional.empty()} if there is no backup that can be loaded.
+     */
+    private static Optional<ReadOnlyAddressBook> readBackupAddressBook(AddressBookStorage storage, Path filePath) {
+        Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+        if (!Files.exists(backupFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(backupFilePath);
+            if (addressBook.isPresent()) {
+                logger.warning("Data file " + filePath + " is damaged, recovered the previous save from "
+                        + backupFilePath);
+            }
+            return addressBook;
+        } catch (DataLoadingException e) {
+            logger.warning("Backup data file " + backupFilePath + " could not be loaded either: " + e);
+            return Optional.empty();
+        }
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        // held across both calls so that the file is not switched in between
+        synchronized (addressBookFileLock) {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        }
+        // the data file is up to date again, so an earlier failed background save no longer needs reporting
+        lastBackgroundSaveFailure = null;
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        synchronized (addressBookFileLock) {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    @Override
+    public void compactAddressBook() throws IOException {
+        synchronized (addressBookFileLock) {
+            addressBookStorage.compactAddressBook();
+        }
+    }
+
+    @Override
+    public void closeAddressBook() throws IOException {
+        synchronized (addressBookFileLock) {
+            addressBookStorage.closeAddressBook();
+        }
+    }
+
+    @Override
+    public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook, Consumer<IOException> failureHandler) {
+        requireAllNonNull(addressBook, failureHandler);
+        PendingSave save = new PendingSave(AddressBookSnapshot.of(addressBook), failureHandler);
+        if (pendingSave.getAndSet(save) == null) {
+            addressBookWriter.execute(this::writePendingSave);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        try {
+            // the writer runs tasks in order, so this completes only after every save requested before it
+            addressBookWriter.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for pending saves", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        IOException failure = lastBackgroundSaveFailure;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void writePendingSave() {
+        PendingSave save = pendingSave.getAndSet(null);
+        try {
+            saveAddressBook(save.addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in background " + StringUtil.getDetails(e));
+            lastBackgroundSaveFailure = e;
+            save.failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * An immutable address book waiting to be written, and where to report a failure to write it.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final Consumer<IOException> failureHandler;
+
+        private PendingSave(ReadOnlyAddressBook addressBook, Consumer<IOException> failureHandler) {
+            this.addressBook = addressBook;
+            this.failureHandler = failureHandler;
+        }
     }
 
 }
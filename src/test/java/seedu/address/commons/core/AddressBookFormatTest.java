@@ -0,0 +1,33 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookFormatTest {
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(Optional.of(AddressBookFormat.JSON), AddressBookFormat.fromKeyword("json"));
+        assertEquals(Optional.of(AddressBookFormat.BINARY), AddressBookFormat.fromKeyword("Binary"));
+        assertEquals(Optional.of(AddressBookFormat.SHARDED), AddressBookFormat.fromKeyword("sharded"));
+        assertEquals(Optional.of(AddressBookFormat.SQL), AddressBookFormat.fromKeyword("SQL"));
+        assertEquals(Optional.empty(), AddressBookFormat.fromKeyword("bin"));
+        assertEquals(Optional.empty(), AddressBookFormat.fromKeyword(""));
+    }
+
+    @Test
+    public void withFileExtension() {
+        assertEquals(Paths.get("data", "taconnect.bin"),
+                AddressBookFormat.BINARY.withFileExtension(Paths.get("data", "taconnect.json")));
+        assertEquals(Paths.get("data", "taconnect.json"),
+                AddressBookFormat.JSON.withFileExtension(Paths.get("data", "taconnect.bin")));
+
+        // no extension or only a leading dot -> extension appended
+        assertEquals(Paths.get("taconnect.bin"), AddressBookFormat.BINARY.withFileExtension(Paths.get("taconnect")));
+        assertEquals(Paths.get(".data.bin"), AddressBookFormat.BINARY.withFileExtension(Paths.get(".data")));
+    }
+}
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,39 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectories_created() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(file.resolveSibling("file.txt" + FileUtil.TEMP_FILE_EXTENSION)));
+    }
+
+    @Test
+    public void writeToFileKeepingBackup_existingFile_copiedToBackup() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "previous");
+        FileUtil.writeToFileKeepingBackup(file, channel -> {
+            // the previous content is still in place while the new content is written
+            assertEquals("previous", FileUtil.readFromFile(file));
+            channel.write(ByteBuffer.wrap("latest".getBytes(StandardCharsets.UTF_8)));
+        });
+
+        assertEquals("latest", FileUtil.readFromFile(file));
+        assertEquals("previous", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "previous");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, channel -> {
+            channel.write(ByteBuffer.wrap("partial".getBytes(StandardCharsets.UTF_8)));
+            throw new IOException("disk full");
+        }));
+        assertEquals("previous", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(file.resolveSibling("file.txt" + FileUtil.TEMP_FILE_EXTENSION)));
+    }
+
 }
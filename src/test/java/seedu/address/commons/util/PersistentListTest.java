@@ -0,0 +1,121 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertEquals(Collections.emptyList(), list.toList());
+        assertFalse(list.iterator().hasNext());
+    }
+
+    @Test
+    public void of_keepsOrder() {
+        List<Integer> elements = Arrays.asList(5, 3, 8, 1, 9, 2);
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertEquals(elements, list.toList());
+        for (int i = 0; i < elements.size(); i++) {
+            assertEquals(elements.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void updates_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+        PersistentList<String> added = original.add(1, "x");
+        PersistentList<String> replaced = original.set(2, "y");
+        PersistentList<String> removed = original.remove(0);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.toList());
+        assertEquals(Arrays.asList("a", "x", "b", "c"), added.toList());
+        assertEquals(Arrays.asList("a", "b", "y"), replaced.toList());
+        assertEquals(Arrays.asList("b", "c"), removed.toList());
+    }
+
+    @Test
+    public void updates_matchArrayList() {
+        Random random = new Random(0);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            }
+        }
+        assertEquals(expected, list.toList());
+        assertEquals(expected.size(), list.size());
+    }
+
+    @Test
+    public void removeRange_leavesOriginalUnchanged() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> original = PersistentList.of(elements);
+
+        PersistentList<Integer> removed = original.removeRange(10, 60);
+
+        List<Integer> expected = new ArrayList<>(elements);
+        expected.subList(10, 60).clear();
+        assertEquals(expected, removed.toList());
+        assertEquals(elements, original.toList());
+        assertEquals(original, original.removeRange(5, 5));
+    }
+
+    @Test
+    public void indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(1, 3));
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+
+        // same values -> returns true
+        assertEquals(list, PersistentList.empty().add("a").add("b"));
+        assertEquals(list.hashCode(), PersistentList.empty().add("a").add("b").hashCode());
+
+        // same object -> returns true
+        assertEquals(list, list);
+
+        // different values -> returns false
+        assertNotEquals(list, list.remove(0));
+
+        // different type -> returns false
+        assertNotEquals(list, list.toList());
+    }
+}
@@ -20,24 +20,33 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.undo.UndoHistory;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -52,6 +61,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -60,11 +70,17 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
         UndoHistory.clear();
     }
 
+    @AfterEach
+    public void tearDown() throws IOException {
+        // let background saves finish before the temporary folder is deleted
+        storage.flushAddressBook();
+    }
+
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "uicfhmowqewca";
@@ -151,17 +167,126 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_convertCommand_savesToNewFile() throws Exception {
+        Path jsonFilePath = temporaryFolder.resolve("addressBook.json");
+        Path binaryFilePath = temporaryFolder.resolve("addressBook.bin");
+        model.setAddressBookFilePath(jsonFilePath);
+        model.addPerson(AMY);
+
+        logic.execute(ConvertCommand.COMMAND_WORD + " binary");
+        storage.flushAddressBook();
+
+        assertEquals(binaryFilePath, storage.getAddressBookFilePath());
+        assertEquals(model.getAddressBook(), new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get());
+        UserPrefs savedUserPrefs = storage.readUserPrefs().get();
+        assertEquals(AddressBookFormat.BINARY, savedUserPrefs.getAddressBookFormat());
+        assertEquals(binaryFilePath, savedUserPrefs.getAddressBookFilePath());
+    }
+
+    @Test
+    public void execute_convertCommandCannotWriteNewFile_keepsPreviousFile() throws Exception {
+        // the data file cannot be created, as its folder is a regular file
+        Path blockedFolder = Files.createFile(temporaryFolder.resolve("blocked"));
+        Path jsonFilePath = blockedFolder.resolve("addressBook.json");
+        model.setAddressBookFilePath(jsonFilePath);
+        storage.saveUserPrefs(model.getUserPrefs());
+
+        assertThrows(CommandException.class, () -> logic.execute(ConvertCommand.COMMAND_WORD + " binary"));
+
+        assertEquals(jsonFilePath, storage.getAddressBookFilePath());
+        assertEquals(jsonFilePath, model.getAddressBookFilePath());
+        assertEquals(AddressBookFormat.JSON, model.getUserPrefs().getAddressBookFormat());
+        UserPrefs savedUserPrefs = storage.readUserPrefs().get();
+        assertEquals(AddressBookFormat.JSON, savedUserPrefs.getAddressBookFormat());
+        assertEquals(jsonFilePath, savedUserPrefs.getAddressBookFilePath());
+    }
+
+    @Test
+    public void loadAddressBook_commandsBeforeLoaded_queuedUntilLoaded() throws Exception {
+        AddressBook loadedAddressBook = new AddressBook();
+        for (int i = 0; i <= LogicManager.LOADING_BATCH_SIZE; i++) {
+            loadedAddressBook.addPerson(new PersonBuilder().withEmail("person" + i + "@example.com").build());
+        }
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        List<CommandResult> queuedResults = new ArrayList<>();
+        logic.setQueuedCommandResultHandler(queuedResults::add);
+
+        logic.loadAddressBook(() -> loadedAddressBook, modelTasks::add);
+        assertTrue(logic.loadingProperty().get());
+        assertEquals(LogicManager.MESSAGE_COMMAND_QUEUED, logic.execute("delete 1").getFeedbackToUser());
+        assertThrows(CommandException.class, LogicManager.MESSAGE_STILL_LOADING, () ->
+                logic.exportDisplayedContacts());
+
+        // the persons are added in two batches, and the queued command only runs once both are in
+        modelTasks.take().run();
+        assertEquals(LogicManager.LOADING_BATCH_SIZE, model.getFilteredPersonList().size());
+        modelTasks.take().run();
+        assertEquals(loadedAddressBook, model.getAddressBook());
+        assertTrue(queuedResults.isEmpty());
+
+        modelTasks.take().run();
+        assertFalse(logic.loadingProperty().get());
+        assertEquals(1, queuedResults.size());
+        assertEquals(LogicManager.LOADING_BATCH_SIZE, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void loadAddressBook_loaderFails_queuedCommandsStillRun() throws Exception {
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        List<CommandResult> queuedResults = new ArrayList<>();
+        logic.setQueuedCommandResultHandler(queuedResults::add);
+
+        logic.loadAddressBook(() -> {
+            throw new IllegalStateException("dummy loading failure");
+        }, modelTasks::add);
+        logic.execute("delete 1");
+
+        modelTasks.take().run();
+        assertFalse(logic.loadingProperty().get());
+        assertEquals(List.of(new CommandResult(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)), queuedResults);
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommands_savesOnlyWhenChanged() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        // the first command saves the initial data, later read-only commands do not
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushAddressBook();
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + TYPE_DESC_STUDENT + SESSION_DESC_AMY + TELEGRAM_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushAddressBook();
+        assertEquals(2, saveCount[0]);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -224,9 +349,10 @@ public class LogicManagerTest {
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureReportedForExceptionFromStorage(IOException e, String expectedMessage)
+            throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -240,9 +366,11 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        StorageManager failingStorage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, failingStorage);
+        List<String> reportedFailures = new ArrayList<>();
+        logic.setSaveFailureHandler(reportedFailures::add);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -251,6 +379,10 @@ public class LogicManagerTest {
                                                       .withSession(VALID_SESSION_AMY).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+
+        assertThrows(IOException.class, e.getMessage(), failingStorage::flushAddressBook);
+        assertEquals(List.of(expectedMessage), reportedFailures);
+        assertEquals(expectedModel, model);
     }
 }
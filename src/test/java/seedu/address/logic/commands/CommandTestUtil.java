@@ -77,15 +77,10 @@ public class CommandTestUtil {
     public static void assertCommandSuccess(Command command, Model actualModel, CommandResult expectedCommandResult,
             Model expectedModel) {
         try {
-            AddressBook previousState = null;
-            if (command.isStateChanging()) {
-                previousState = new AddressBook(actualModel.getAddressBook());
-            }
-
             CommandResult result = command.execute(actualModel);
 
-            if (command.isStateChanging() && previousState != null) {
-                UndoHistory.recordState(previousState, determineUndoLabel(command));
+            if (command.isStateChanging()) {
+                UndoHistory.record(command.getUndoAction(), determineUndoLabel(command));
             }
             assertEquals(expectedCommandResult, result);
             assertEquals(expectedModel, actualModel);
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ConvertCommandTest {
+
+    @Test
+    public void execute_otherFormat_switchesDataFile() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        CommandResult result = new ConvertCommand(AddressBookFormat.BINARY).execute(model);
+
+        assertEquals(String.format(ConvertCommand.MESSAGE_SUCCESS, "binary", Paths.get("data", "taconnect.bin"),
+                Paths.get("data", "taconnect.json")), result.getFeedbackToUser());
+        assertEquals(AddressBookFormat.BINARY, model.getUserPrefs().getAddressBookFormat());
+        assertEquals(Paths.get("data", "taconnect.bin"), model.getAddressBookFilePath());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+
+        new ConvertCommand(AddressBookFormat.JSON).execute(model);
+        assertEquals(new UserPrefs(), model.getUserPrefs());
+    }
+
+    @Test
+    public void execute_sameFormat_throwsCommandException() {
+        Model model = new ModelManager();
+        assertThrows(CommandException.class, String.format(ConvertCommand.MESSAGE_ALREADY_IN_FORMAT, "json"), () ->
+                new ConvertCommand(AddressBookFormat.JSON).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand convertToBinaryCommand = new ConvertCommand(AddressBookFormat.BINARY);
+
+        // same object -> returns true
+        assertTrue(convertToBinaryCommand.equals(convertToBinaryCommand));
+
+        // same values -> returns true
+        assertTrue(convertToBinaryCommand.equals(new ConvertCommand(AddressBookFormat.BINARY)));
+
+        // null -> returns false
+        assertFalse(convertToBinaryCommand.equals(null));
+
+        // different format -> returns false
+        assertFalse(convertToBinaryCommand.equals(new ConvertCommand(AddressBookFormat.JSON)));
+    }
+}
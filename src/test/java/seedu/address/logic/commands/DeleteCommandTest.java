@@ -169,6 +169,34 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, startingModel, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_rangeUnfilteredList_success() {
+        Model startingModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person firstPerson = startingModel.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person secondPerson = startingModel.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        Person thirdPerson = startingModel.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
+
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(
+                Selector.fromRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON)));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_MULTIPLE_PERSON_SUCCESS,
+                Messages.format(firstPerson) + "\n" + Messages.format(secondPerson) + "\n"
+                + Messages.format(thirdPerson));
+
+        Model expectedModel = new ModelManager(startingModel.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(List.of(firstPerson, secondPerson, thirdPerson));
+
+        assertCommandSuccess(deleteCommand, startingModel, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rangeBeyondDisplayedList_throwsCommandException() {
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(
+                Selector.fromRange(INDEX_FIRST_PERSON, Index.fromOneBased(Integer.MAX_VALUE))));
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
     @Test
     public void execute_validIndexFilteredList_success() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
@@ -186,6 +214,25 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_rangeScatteredInAddressBook_success() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person thirdPerson = model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
+        model.updateFilteredPersonList(person -> person.equals(firstPerson) || person.equals(thirdPerson));
+
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(
+                Selector.fromRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_MULTIPLE_PERSON_SUCCESS,
+                Messages.format(firstPerson) + "\n" + Messages.format(thirdPerson));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePersons(List.of(firstPerson, thirdPerson));
+        showNoPerson(expectedModel);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_invalidIndexFilteredList_throwsCommandException() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
@@ -199,6 +246,17 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_nameNotInFilteredList_throwsCommandException() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+
+        Person hiddenPerson = model.getAddressBook().getPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(Selector.fromName(hiddenPerson.getName())));
+
+        assertCommandFailure(deleteCommand, model,
+                String.format(DeleteCommand.MESSAGE_PERSON_NOT_FOUND_BY_NAME, hiddenPerson.getName()));
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(List.of(Selector.fromIndex(INDEX_FIRST_PERSON)));
@@ -233,7 +291,7 @@ public class DeleteCommandTest {
         String expected = DeleteCommand.class.getCanonicalName()
                 + "{selectors=["
                 + DeleteCommand.Selector.class.getCanonicalName()
-                + "{index=" + targetIndex + ", name=null}]}";
+                + "{index=" + targetIndex + ", endIndex=" + targetIndex + ", name=null}]}";
         assertEquals(expected, deleteCommand.toString());
     }
 
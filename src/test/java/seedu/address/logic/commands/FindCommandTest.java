@@ -19,6 +19,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -82,6 +84,18 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personsJoiningLater_filteredByName() {
+        new FindCommand(preparePredicate("Me")).execute(model);
+
+        // persons that were not in the address book when the names were looked up
+        Person matching = new PersonBuilder().withName("Amelia").withEmail("amelia@example.com").build();
+        Person notMatching = new PersonBuilder().withName("Zoe").withEmail("zoe@example.com").build();
+        model.insertPerson(0, matching);
+        model.insertPerson(0, notMatching);
+        assertEquals(Arrays.asList(matching, BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate =
@@ -7,18 +7,22 @@ import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.Messages.MESSAGE_SESSION_NOT_FOUND;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Session;
 import seedu.address.model.person.SessionMatchPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code ListSessionCommand}.
@@ -75,6 +79,28 @@ public class ListSessionCommandTest {
         assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_multipleSessions_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        SessionMatchPredicate predicate = new SessionMatchPredicate(List.of(new Session("S1"), new Session("S3")));
+        ListSessionCommand command = new ListSessionCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personsJoiningLater_filteredBySession() {
+        new ListSessionCommand(preparePredicate("S1")).execute(model);
+
+        // persons that were not in the address book when the sessions were looked up
+        Person inSession = new PersonBuilder().withEmail("insession@example.com").withSession("S1").build();
+        Person notInSession = new PersonBuilder().withEmail("notinsession@example.com").withSession("S3").build();
+        model.insertPerson(0, inSession);
+        model.insertPerson(0, notInSession);
+        assertEquals(Arrays.asList(inSession, ALICE), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         SessionMatchPredicate predicate = new SessionMatchPredicate(new Session("S1"));
@@ -56,6 +56,49 @@ public class UndoCommandTest {
                 expectedAfterUndo);
     }
 
+    @Test
+    public void execute_afterDeletingRange_restoresOriginalPositions() {
+        List<Person> personsInRange = List.copyOf(model.getFilteredPersonList().subList(1, 4));
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(
+                DeleteCommand.Selector.fromRange(Index.fromOneBased(2), Index.fromOneBased(4))));
+        deleteCommand.setUndoLabel(DeleteCommand.COMMAND_WORD);
+
+        Model expectedAfterDelete = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        expectedAfterDelete.deletePersons(personsInRange);
+        String deletedPersons = String.join("\n", Messages.format(personsInRange.get(0)),
+                Messages.format(personsInRange.get(1)), Messages.format(personsInRange.get(2)));
+        assertCommandSuccess(deleteCommand, model,
+                String.format(DeleteCommand.MESSAGE_DELETE_MULTIPLE_PERSON_SUCCESS, deletedPersons),
+                expectedAfterDelete);
+
+        Model expectedAfterUndo = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model,
+                String.format(UndoCommand.MESSAGE_SUCCESS, DeleteCommand.COMMAND_WORD), expectedAfterUndo);
+    }
+
+    @Test
+    public void execute_afterDeletingScatteredPersons_restoresOriginalPositions() {
+        Person secondPerson = model.getFilteredPersonList().get(1);
+        Person fourthPerson = model.getFilteredPersonList().get(3);
+        Person fifthPerson = model.getFilteredPersonList().get(4);
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(
+                DeleteCommand.Selector.fromRange(Index.fromOneBased(4), Index.fromOneBased(5)),
+                DeleteCommand.Selector.fromIndex(Index.fromOneBased(2))));
+        deleteCommand.setUndoLabel(DeleteCommand.COMMAND_WORD);
+
+        Model expectedAfterDelete = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        expectedAfterDelete.deletePersons(List.of(secondPerson, fourthPerson, fifthPerson));
+        String deletedPersons = String.join("\n", Messages.format(fourthPerson), Messages.format(fifthPerson),
+                Messages.format(secondPerson));
+        assertCommandSuccess(deleteCommand, model,
+                String.format(DeleteCommand.MESSAGE_DELETE_MULTIPLE_PERSON_SUCCESS, deletedPersons),
+                expectedAfterDelete);
+
+        Model expectedAfterUndo = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model,
+                String.format(UndoCommand.MESSAGE_SUCCESS, DeleteCommand.COMMAND_WORD), expectedAfterUndo);
+    }
+
     @Test
     public void execute_afterMultipleMutations_restoresLatest() {
         Person newPerson = new PersonBuilder().withName("Zara Tan").build();
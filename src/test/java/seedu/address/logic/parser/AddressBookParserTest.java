@@ -1,6 +1,8 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -12,8 +14,11 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportCommand;
@@ -95,6 +100,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_convert() throws Exception {
+        assertEquals(new ConvertCommand(AddressBookFormat.BINARY),
+                parser.parseCommand(ConvertCommand.COMMAND_WORD + " binary"));
+    }
+
     @Test
     public void parseCommand_export() throws Exception {
         assertTrue(parser.parseCommand(ExportCommand.COMMAND_WORD) instanceof ExportCommand);
@@ -131,4 +142,41 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_lineBreakInArguments_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(ListCommand.COMMAND_WORD + " 1\n2"));
+    }
+
+    @Test
+    public void parseCommand_sameInputTwice_newCommandEachTime() throws Exception {
+        // the parsers are shared, but the commands they return are not, as commands hold their undo label
+        Command first = parser.parseCommand(ClearCommand.COMMAND_WORD);
+        Command second = parser.parseCommand(ClearCommand.COMMAND_WORD);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void parseCommand_repeatedInput_cachedCommandReturned() throws Exception {
+        Command first = parser.parseCommand(ListSessionCommand.COMMAND_WORD + " S1");
+        Command second = parser.parseCommand("  " + ListSessionCommand.COMMAND_WORD + " S1 ");
+        assertSame(first, second);
+        assertEquals(1, parser.getCommandCache().getHitCount());
+        assertEquals(1, parser.getCommandCache().getMissCount());
+    }
+
+    @Test
+    public void parseCommand_customRegistry_registeredCommandParsed() throws Exception {
+        CommandRegistry registry = AddressBookParser.createDefaultCommandRegistry();
+        registry.register(arguments -> new ExitCommand(), "quit", "q");
+        AddressBookParser customParser = new AddressBookParser(registry);
+
+        assertTrue(customParser.parseCommand("quit") instanceof ExitCommand);
+        assertTrue(customParser.parseCommand("q now") instanceof ExitCommand);
+        assertTrue(customParser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
+
+        // the default parser is not affected
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("quit"));
+    }
 }
@@ -136,6 +136,31 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixTrie_sameAsPrefixes() {
+        PrefixTrie prefixTrie = new PrefixTrie(pSlash, dashT, hatQ);
+        String argsString = "SomePreambleString -t dashT-Value ^Q ^Q -t another dashT value p/ pSlash value -t";
+
+        // the same trie can be reused
+        for (int i = 0; i < 2; i++) {
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, prefixTrie);
+            assertPreamblePresent(argMultimap, "SomePreambleString");
+            assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+            assertArgumentPresent(argMultimap, dashT, "dashT-Value", "another dashT value", "");
+            assertArgumentPresent(argMultimap, hatQ, "", "");
+        }
+    }
+
+    @Test
+    public void tokenize_prefixStartsAnotherPrefix_longestPrefixTaken() {
+        Prefix dashTee = new Prefix("-tt");
+        String argsString = "preamble -tt long -t short";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTee);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTee, "long");
+        assertArgumentPresent(argMultimap, dashT, "short");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
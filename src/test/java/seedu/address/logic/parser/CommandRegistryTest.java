@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+
+public class CommandRegistryTest {
+
+    private final Parser<Command> exitParser = arguments -> new ExitCommand();
+
+    @Test
+    public void getParser_registeredWordOrAlias_returnsParser() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(exitParser, "exit", "quit");
+
+        assertSame(exitParser, registry.getParser("exit").get());
+        assertSame(exitParser, registry.getParser("quit").get());
+        assertTrue(registry.getParser("EXIT").isEmpty());
+    }
+
+    @Test
+    public void register_duplicateWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(exitParser, "exit", "quit");
+
+        assertThrows(IllegalArgumentException.class, () -> registry.register(arguments -> new HelpCommand(), "quit"));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(arguments -> new HelpCommand(),
+                "help", "exit"));
+    }
+
+    @Test
+    public void register_null_throwsNullPointerException() {
+        CommandRegistry registry = new CommandRegistry();
+        assertThrows(NullPointerException.class, () -> registry.register(null, "exit"));
+        assertThrows(NullPointerException.class, () -> registry.register(exitParser, null));
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.logic.commands.ConvertCommand;
+
+public class ConvertCommandParserTest {
+
+    private ConvertCommandParser parser = new ConvertCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsConvertCommand() {
+        assertParseSuccess(parser, "binary", new ConvertCommand(AddressBookFormat.BINARY));
+
+        // case and surrounding whitespace are ignored
+        assertParseSuccess(parser, "  JSON  ", new ConvertCommand(AddressBookFormat.JSON));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE);
+
+        // no format
+        assertParseFailure(parser, "   ", expectedMessage);
+
+        // unknown format
+        assertParseFailure(parser, "csv", expectedMessage);
+
+        // more than one format
+        assertParseFailure(parser, "json binary", expectedMessage);
+    }
+}
@@ -9,6 +9,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteCommand.Selector;
@@ -41,29 +42,32 @@ public class DeleteCommandParserTest {
     @Test
     public void parse_validRange_returnsDeleteCommand() {
         assertParseSuccess(parser, " 1-2", new DeleteCommand(List.of(
-                Selector.fromIndex(INDEX_FIRST_PERSON), Selector.fromIndex(INDEX_SECOND_PERSON))));
+                Selector.fromRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON))));
         assertParseSuccess(parser, " 3-4", new DeleteCommand(List.of(
-                Selector.fromIndex(seedu.address.commons.core.index.Index.fromOneBased(3)),
-                Selector.fromIndex(seedu.address.commons.core.index.Index.fromOneBased(4)))));
+                Selector.fromRange(Index.fromOneBased(3), Index.fromOneBased(4)))));
+
+        // single index range
+        assertParseSuccess(parser, " 2-2", new DeleteCommand(List.of(Selector.fromIndex(INDEX_SECOND_PERSON))));
+    }
+
+    @Test
+    public void parse_wideRange_returnsSingleSelector() {
+        assertParseSuccess(parser, " 1-2000000000", new DeleteCommand(List.of(
+                Selector.fromRange(INDEX_FIRST_PERSON, Index.fromOneBased(2000000000)))));
     }
 
     @Test
     public void parse_overlappingRanges_returnsDeleteCommand() {
         assertParseSuccess(parser, " 1-3 2-4", new DeleteCommand(List.of(
-                Selector.fromIndex(seedu.address.commons.core.index.Index.fromOneBased(1)),
-                Selector.fromIndex(seedu.address.commons.core.index.Index.fromOneBased(2)),
-                Selector.fromIndex(seedu.address.commons.core.index.Index.fromOneBased(3)),
-                Selector.fromIndex(seedu.address.commons.core.index.Index.fromOneBased(2)),
-                Selector.fromIndex(seedu.address.commons.core.index.Index.fromOneBased(3)),
-                Selector.fromIndex(seedu.address.commons.core.index.Index.fromOneBased(4)))));
+                Selector.fromRange(Index.fromOneBased(1), Index.fromOneBased(3)),
+                Selector.fromRange(Index.fromOneBased(2), Index.fromOneBased(4)))));
     }
 
     @Test
     public void parse_mixedRangeAndNames_returnsDeleteCommand() {
         Person alice = TypicalPersons.ALICE;
         assertParseSuccess(parser, " 1-2 n:" + alice.getName(), new DeleteCommand(List.of(
-                Selector.fromIndex(INDEX_FIRST_PERSON),
-                Selector.fromIndex(INDEX_SECOND_PERSON),
+                Selector.fromRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
                 Selector.fromName(alice.getName()))));
     }
 
@@ -5,6 +5,8 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_SESSION_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ListSessionCommand;
@@ -43,4 +45,17 @@ public class ListSessionCommandParserTest {
         // multiple whitespaces between session
         assertParseSuccess(parser, " \n G1 \n", expectedListSessionCommand);
     }
+
+    @Test
+    public void parse_multipleSessions_returnsListSessionCommand() {
+        ListSessionCommand expectedListSessionCommand = new ListSessionCommand(
+                new SessionMatchPredicate(List.of(new Session("G1"), new Session("G2"), new Session("T07B"))));
+        assertParseSuccess(parser, "G1 G2 T07B", expectedListSessionCommand);
+
+        // repeated sessions are ignored
+        assertParseSuccess(parser, "G1 \n G2 G1 T07B", expectedListSessionCommand);
+
+        // one invalid session
+        assertParseFailure(parser, "G1 g2", MESSAGE_INVALID_SESSION_FORMAT);
+    }
 }
@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+
+public class ParsedCommandCacheTest {
+
+    @Test
+    public void constructor_negativeCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ParsedCommandCache(-1));
+    }
+
+    @Test
+    public void get_countsHitsAndMisses() {
+        ParsedCommandCache cache = new ParsedCommandCache(2);
+        Command list = new ListCommand();
+
+        assertTrue(cache.get("list").isEmpty());
+        cache.put("list", list);
+        assertSame(list, cache.get("list").get());
+        assertSame(list, cache.get("list").get());
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void put_full_leastRecentlyUsedDropped() {
+        ParsedCommandCache cache = new ParsedCommandCache(2);
+        cache.put("list", new ListCommand());
+        cache.put("help", new HelpCommand());
+
+        // using list makes help the least recently used
+        cache.get("list");
+        cache.put("list 2", new ListCommand());
+
+        assertTrue(cache.get("list").isPresent());
+        assertTrue(cache.get("list 2").isPresent());
+        assertTrue(cache.get("help").isEmpty());
+    }
+
+    @Test
+    public void put_stateChangingCommand_notCached() {
+        ParsedCommandCache cache = new ParsedCommandCache(2);
+        cache.put("clear", new ClearCommand());
+        assertTrue(cache.get("clear").isEmpty());
+    }
+
+    @Test
+    public void put_zeroCapacity_notCached() {
+        ParsedCommandCache cache = new ParsedCommandCache(0);
+        cache.put("list", new ListCommand());
+        assertTrue(cache.get("list").isEmpty());
+    }
+}
@@ -69,6 +69,19 @@ class UndoHistoryTest {
         assertEquals("Alice", model.getAddressBook().getPersonList().get(0).getName().fullName);
     }
 
+    @Test
+    public void record_thenRestore_appliesUndoAction() {
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(alice);
+
+        UndoHistory.record(undoModel -> undoModel.deletePerson(alice), "add");
+
+        assertEquals("add", UndoHistory.restorePreviousState(model));
+        assertEquals(new ModelManager(new AddressBook(), new UserPrefs()), model);
+        assertFalse(UndoHistory.canUndo());
+    }
+
     // Returns a two-letter uppercase index (AA, AB, ..., AZ, BA, ...) for small n (sufficient for this test)
     private String alphaIndex(int n) {
         int a = n / 26;
@@ -7,18 +7,21 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_SESSION_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TELEGRAM_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -43,6 +46,32 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withSnapshot_restoresSnapshotContents() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = typicalAddressBook.snapshot();
+        typicalAddressBook.removePerson(ALICE);
+
+        addressBook.resetData(snapshot);
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertEquals(snapshot, addressBook.snapshot());
+    }
+
+    @Test
+    public void getVersion_increasesOnEveryChange() {
+        long initialVersion = addressBook.getVersion();
+
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        addressBook.hasPerson(ALICE);
+        assertEquals(versionAfterAdd, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getVersion() > versionAfterAdd);
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -78,6 +107,43 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getSessionIndex_personsAddedAndRemoved_tracksSessions() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Session aliceSession = ALICE.getSession().get();
+        Session bensonSession = BENSON.getSession().get();
+        assertEquals(Set.of(ALICE, BENSON),
+                addressBook.getSessionIndex().getPersonsInSessions(List.of(aliceSession, bensonSession)));
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getSessionIndex().getPersonsInSessions(List.of(aliceSession)).isEmpty());
+        assertEquals(Set.of(BENSON), addressBook.getSessionIndex().getPersonsInSessions(List.of(bensonSession)));
+    }
+
+    @Test
+    public void removePersons_equalButNotSamePersons_removedFromIndexes() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        Person bensonCopy = new PersonBuilder(BENSON).build();
+
+        addressBook.removePerson(aliceCopy);
+        addressBook.removePersons(List.of(bensonCopy));
+
+        assertEquals(Collections.emptyList(), addressBook.getPersonList());
+        assertTrue(addressBook.getSessionIndex().getPersonsInSessions(
+                List.of(ALICE.getSession().get(), BENSON.getSession().get())).isEmpty());
+        assertTrue(addressBook.getNameTrigramIndex().getCandidates("Alice").isEmpty());
+    }
+
+    @Test
+    public void getSessionIndex_resetData_rebuildsIndex() {
+        addressBook.addPerson(BENSON);
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Set.of(ALICE), addressBook.getSessionIndex().getPersonsInSessions(List.of(new Session("S1"))));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -108,6 +174,16 @@ public class AddressBookTest {
         public ReadOnlyPersonAndSessionCounter getCounter() {
             return null;
         }
+
+        @Override
+        public ReadOnlySessionIndex getSessionIndex() {
+            return null;
+        }
+
+        @Override
+        public ReadOnlyNameTrigramIndex getNameTrigramIndex() {
+            return null;
+        }
     }
 
 }
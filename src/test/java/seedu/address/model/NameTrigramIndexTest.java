@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
+
+    @Test
+    public void getCandidates_emptyIndex_returnsEmptySet() {
+        assertTrue(nameTrigramIndex.getCandidates("alice").isEmpty());
+    }
+
+    @Test
+    public void getCandidates_keywordShorterThanTrigram_returnsAllPersons() {
+        nameTrigramIndex.setPersons(getTypicalPersons());
+        assertEquals(getTypicalPersons().size(), nameTrigramIndex.getCandidates("Me").size());
+    }
+
+    @Test
+    public void getCandidates_substringIgnoringCase_returnsMatchingPersons() {
+        nameTrigramIndex.setPersons(getTypicalPersons());
+        assertEquals(Set.of(BENSON, DANIEL), nameTrigramIndex.getCandidates("MEI"));
+        assertEquals(Set.of(ALICE), nameTrigramIndex.getCandidates(" alice paul "));
+    }
+
+    @Test
+    public void getCandidates_unknownTrigram_returnsEmptySet() {
+        nameTrigramIndex.setPersons(getTypicalPersons());
+        assertTrue(nameTrigramIndex.getCandidates("xyz").isEmpty());
+    }
+
+    @Test
+    public void getCandidates_personRemoved_notReturned() {
+        nameTrigramIndex.add(ALICE);
+        nameTrigramIndex.add(BENSON);
+        nameTrigramIndex.remove(ALICE);
+        assertTrue(nameTrigramIndex.getCandidates("Alice").isEmpty());
+        assertEquals(Set.of(BENSON), nameTrigramIndex.getCandidates("Benson"));
+    }
+}
@@ -7,6 +7,8 @@ import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.AddressBookFormat;
+
 /**
  * Tests for {@link UserPrefs}.
  */
@@ -24,6 +26,17 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFormat(null));
+    }
+
+    @Test
+    public void defaultAddressBookFormat_isJson() {
+        assertEquals(AddressBookFormat.JSON, new UserPrefs().getAddressBookFormat());
+    }
+
     @Test
     public void defaultAddressBookFilePath_isTaconnectJson() {
         UserPrefs prefs = new UserPrefs();
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -97,6 +98,12 @@ public class EmailTest {
         assertTrue(new Email("user@example.com").equals(new Email("user@EXAMPLE.COM")));
     }
 
+    @Test
+    public void ofValid_validEmail_domainLowerCased() {
+        assertEquals("John.Doe@example.com", Email.ofValid("John.Doe@Example.COM").get().value);
+        assertTrue(Email.ofValid("john@example").isEmpty());
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@example.com");
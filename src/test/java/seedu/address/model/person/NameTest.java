@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +49,23 @@ public class NameTest {
         assertTrue(Name.isValidName("Meena D/O Kumar")); // slash with patronymic marker
     }
 
+    @Test
+    public void isValidName_sameAsValidationRegex() {
+        for (String test : List.of("", " ", " Alice", "Alice", "alice bob", "O'Brien", "O\u2019Brien", "O\u02BCBrien",
+                "Jean-Luc", "J. R. R.", "s/o", "Alice1", "Alice\t", "Al\u00e9", "-", "Alice ", "a".repeat(500),
+                "a".repeat(501))) {
+            boolean expected = test.matches(Name.VALIDATION_REGEX) && test.length() <= Name.MAX_NAME_LENGTH;
+            assertEquals(expected, Name.isValidName(test), test);
+        }
+    }
+
+    @Test
+    public void ofValid() {
+        assertEquals(new Name("Alice"), Name.ofValid("Alice").get());
+        assertTrue(Name.ofValid("Alice1").isEmpty());
+        assertThrows(NullPointerException.class, () -> Name.ofValid(null));
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -11,6 +11,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TELEGRAM_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TYPE_TA;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -85,6 +88,18 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void ofTrusted_valuesOfExistingPersons_equalToExistingPersons() {
+        for (Person person : List.of(ALICE, BOB, CARL)) {
+            Person trustedPerson = Person.ofTrusted(person.getName().fullName, person.getPhone().value,
+                    person.getEmail().value, person.getType().value,
+                    person.getTelegramUsername().map(telegramUsername -> telegramUsername.value).orElse(null),
+                    person.getSession().map(session -> session.value).orElse(null));
+            assertEquals(person, trustedPerson);
+            assertEquals(person.toString(), trustedPerson.toString());
+        }
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -37,6 +39,20 @@ public class PhoneTest {
         assertFalse(Phone.isValidPhone("124293842033123")); // long phone numbers not allowed
     }
 
+    @Test
+    public void isValidPhone_sameAsValidationRegex() {
+        for (String test : List.of("", "9123456", "91234567", "912345678", "9123456a", " 9123456", "\u0669\u0669123456",
+                "00000000")) {
+            assertEquals(test.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(test), test);
+        }
+    }
+
+    @Test
+    public void ofValid() {
+        assertEquals(new Phone("91234567"), Phone.ofValid("91234567").get());
+        assertTrue(Phone.ofValid("9123").isEmpty());
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("99999999");
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -42,6 +44,13 @@ public class SessionMatchPredicateTest {
         assertTrue(predicate.test(new PersonBuilder().withSession("S1").build()));
     }
 
+    @Test
+    public void test_personInAnyOfSessions_returnsTrue() {
+        // Multiple session inputs, one matches
+        SessionMatchPredicate predicate = new SessionMatchPredicate(List.of(new Session("S1"), new Session("S2")));
+        assertTrue(predicate.test(new PersonBuilder().withSession("S2").build()));
+    }
+
     @Test
     public void test_personDoesNotExistInSession_returnsFalse() {
         // Non-matching session
@@ -54,7 +63,7 @@ public class SessionMatchPredicateTest {
         Session session = new Session("S1");
         SessionMatchPredicate predicate = new SessionMatchPredicate(session);
 
-        String expected = SessionMatchPredicate.class.getCanonicalName() + "{session=" + session + "}";
+        String expected = SessionMatchPredicate.class.getCanonicalName() + "{sessions=[" + session + "]}";
         assertEquals(expected, predicate.toString());
     }
 }
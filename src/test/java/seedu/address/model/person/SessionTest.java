@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -69,6 +71,20 @@ public class SessionTest {
         assertFalse(Session.isValidSession("AAA07")); // prefix length>2
     }
 
+    @Test
+    public void isValidSession_sameAsValidationRegex() {
+        for (String test : List.of("", "G", "G0", "G1", "G01", "G00", "G10", "G99", "G100", "GA1", "GAB1", "G1A",
+                "G1AB", "G01B", "g1", "G1a", "G 1", "1G", "AB", "AB0", "AB09Z")) {
+            assertEquals(test.matches(Session.VALIDATION_REGEX), Session.isValidSession(test), test);
+        }
+    }
+
+    @Test
+    public void ofValid() {
+        assertEquals(new Session("T07B"), Session.ofValid("T07B").get());
+        assertTrue(Session.ofValid("T7b").isEmpty());
+    }
+
     @Test
     public void equals() {
         Session session = new Session("G17");
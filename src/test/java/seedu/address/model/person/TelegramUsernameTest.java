@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +40,21 @@ public class TelegramUsernameTest {
         assertTrue(TelegramUsername.isValidTelegramUsername("@_____")); // underscores
     }
 
+    @Test
+    public void isValidTelegramUsername_sameAsValidationRegex() {
+        for (String test : List.of("", "@", "abcd", "@abcd", "abcde", "@abcde", "@@abcde", "ab_c1", "ab-cd",
+                "a".repeat(32), "@" + "a".repeat(32), "a".repeat(33), "abcde@", "abc de")) {
+            assertEquals(test.matches(TelegramUsername.VALIDATION_REGEX),
+                    TelegramUsername.isValidTelegramUsername(test), test);
+        }
+    }
+
+    @Test
+    public void ofValid_withoutAtSign_atSignAdded() {
+        assertEquals("@TestUser", TelegramUsername.ofValid("TestUser").get().value);
+        assertTrue(TelegramUsername.ofValid("abc").isEmpty());
+    }
+
     @Test
     public void equals() {
         TelegramUsername telegramUsername = new TelegramUsername("@TestUser");
@@ -0,0 +1,48 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TrustedPersonFactoryTest {
+
+    private final TrustedPersonFactory personFactory = new TrustedPersonFactory();
+
+    @Test
+    public void create_valuesOfExistingPersons_equalToExistingPersons() {
+        for (Person person : List.of(ALICE, BOB, CARL)) {
+            assertEquals(person, create(person));
+        }
+    }
+
+    @Test
+    public void create_sameTypeAndSession_sharesThem() {
+        Person classmate = new PersonBuilder(ALICE).withName(BENSON.getName().fullName)
+                .withEmail(BENSON.getEmail().value).build();
+        Person alice = create(ALICE);
+        Person createdClassmate = create(classmate);
+
+        assertSame(alice.getType(), createdClassmate.getType());
+        assertSame(alice.getSession().get(), createdClassmate.getSession().get());
+
+        // the other fields are not shared
+        assertNotSame(alice.getName(), create(ALICE).getName());
+    }
+
+    private Person create(Person person) {
+        return personFactory.create(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getType().value,
+                person.getTelegramUsername().map(telegramUsername -> telegramUsername.value).orElse(null),
+                person.getSession().map(session -> session.value).orElse(null));
+    }
+}
@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +40,20 @@ public class TypeTest {
         assertTrue(Type.isValidType("STUDENT")); // uppercase still valid
     }
 
+    @Test
+    public void isValidType_sameAsValidationRegex() {
+        for (String test : List.of("", "student", "STUDENT", "Ta", "tA", "instructor", "Staff", "staf", "stafff",
+                "\u017Ftaff", "\u0131nstructor", " ta", "student ")) {
+            assertEquals(test.matches(Type.VALIDATION_REGEX), Type.isValidType(test), test);
+        }
+    }
+
+    @Test
+    public void ofValid_validType_lowerCased() {
+        assertEquals(new Type("staff"), Type.ofValid("STAFF").get());
+        assertTrue(Type.ofValid("tutor").isEmpty());
+    }
+
     @Test
     public void equals() {
         Type type = new Type("student");
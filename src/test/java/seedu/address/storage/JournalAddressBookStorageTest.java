@@ -0,0 +1,229 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_smallChanges_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String checkpoint = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePersons(List.of(BENSON, DANIEL));
+        original.insertPerson(0, IDA);
+        storage.saveAddressBook(original);
+
+        // the checkpoint is left alone and the changes are replayed from the journal
+        assertEquals(checkpoint, Files.readString(filePath));
+        assertEquals(5, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterReading_appendsToExistingJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removePerson(ALICE);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(2, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_writesNewCheckpoint() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedLastRecord_replaysRecordsBeforeIt() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(journalPath, "{\"operation\":\"add\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage recoveredStorage = new JournalAddressBookStorage(filePath);
+        AddressBook recovered = new AddressBook(recoveredStorage.readAddressBook().get());
+        assertEquals(original, recovered);
+
+        // the damaged journal is not appended to, but replaced by a new checkpoint
+        recovered.removePerson(CARL);
+        recoveredStorage.saveAddressBook(recovered);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(recovered, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderCheckpoint_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the checkpoint is replaced without its journal being reset, as if interrupted in between
+        AddressBook newCheckpoint = getTypicalAddressBook();
+        newCheckpoint.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(newCheckpoint);
+
+        assertEquals(newCheckpoint, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_editedCheckpoint_validatedAgain() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String checkpoint = Files.readString(filePath);
+
+        // an edit that keeps the data valid is loaded as usual
+        Files.writeString(filePath, checkpoint.replace(ALICE.getPhone().value, BENSON.getPhone().value));
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(ALICE);
+        expected.insertPerson(0, new PersonBuilder(ALICE).withPhone(BENSON.getPhone().value).build());
+        assertEquals(expected, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // an edit that makes the data invalid is no longer trusted to be valid
+        Files.writeString(filePath, checkpoint.replace(ALICE.getPhone().value, "123"));
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_checkpointEditedWithJournalChanges_journalSetAside() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(journalPath);
+
+        Files.writeString(filePath, Files.readString(filePath).replace(ALICE.getPhone().value,
+                BENSON.getPhone().value));
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(ALICE);
+        expected.insertPerson(0, new PersonBuilder(ALICE).withPhone(BENSON.getPhone().value).build());
+        assertEquals(expected, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // the journal is kept aside instead of being overwritten by the next save
+        assertFalse(Files.exists(journalPath));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            List<Path> orphanedJournals = files.filter(path -> path.getFileName().toString()
+                    .endsWith(JournalAddressBookStorage.ORPHANED_JOURNAL_FILE_EXTENSION)).toList();
+            assertEquals(1, orphanedJournals.size());
+            assertEquals(journal, Files.readAllLines(orphanedJournals.get(0)));
+        }
+    }
+
+    @Test
+    public void compactAddressBook_journalWithChanges_foldedIntoCheckpoint() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String checkpoint = Files.readString(filePath);
+
+        // nothing to fold
+        storage.compactAddressBook();
+        assertEquals(checkpoint, Files.readString(filePath));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.compactAddressBook();
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // later saves are appended to the journal of the new checkpoint
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                ("{\"operation\":\"delete\",\"index\":99}" + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void recordChanges() {
+        // no changes -> no records
+        assertEquals(List.of(), JournalAddressBookStorage.recordChanges(List.of(ALICE, BENSON),
+                List.of(ALICE, BENSON)).get());
+
+        // emptied -> a single clear record
+        assertEquals(1, JournalAddressBookStorage.recordChanges(List.of(ALICE, BENSON), List.of()).get().size());
+
+        // one deleted and one added -> two records
+        assertEquals(2, JournalAddressBookStorage.recordChanges(List.of(ALICE, BENSON, CARL),
+                List.of(ALICE, CARL, DANIEL)).get().size());
+
+        // reordered -> cannot be recorded
+        assertTrue(JournalAddressBookStorage.recordChanges(List.of(ALICE, BENSON),
+                List.of(BENSON, ALICE)).isEmpty());
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), readFile("typicalPersonsAddressBook.json"));
+    }
+
+    @Test
+    public void read_sameAsSerializableAddressBook() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        assertEquals(original, readString(json));
+    }
+
+    @Test
+    public void read_trusted_sameAsValidated() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        assertEquals(original, JsonAddressBookReader.read(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), true));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readFile("invalidPersonAddressBook.json"));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readFile("duplicatePersonAddressBook.json"));
+    }
+
+    @Test
+    public void read_exceedMaxPersonCount_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_MAX_PERSON_COUNT_REACHED, () ->
+                readFile("exceedMaxPersonCountAddressBook.json"));
+    }
+
+    @Test
+    public void read_exceedMaxSessionCount_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_MAX_SESSION_COUNT_REACHED, () ->
+                readFile("exceedMaxSessionCountAddressBook.json"));
+    }
+
+    @Test
+    public void read_invalidPersonBeforeUnreadableOne_throwsIllegalValueException() {
+        String json = "{ \"persons\": [ { \"name\": \"Alice\", \"phone\": \"123\", \"email\": \"alice@example.com\","
+                + " \"type\": \"instructor\" }, { \"name\": ";
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> readString(json));
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        assertEquals(new AddressBook(), readString("{ \"version\": { \"major\": [1, 2] }, \"persons\": [] }"));
+    }
+
+    @Test
+    public void read_notAnAddressBook_throwsIoException() {
+        assertThrows(IOException.class, () -> readString("[]"));
+        assertThrows(IOException.class, () -> readString("{ \"people\": [] }"));
+        assertThrows(IOException.class, () -> readString("{ \"persons\": [ {"));
+        assertThrows(IOException.class, () -> readString("not json"));
+    }
+
+    private AddressBook readFile(String fileName) throws Exception {
+        try (InputStream jsonStream = Files.newInputStream(TEST_DATA_FOLDER.resolve(fileName))) {
+            return JsonAddressBookReader.read(jsonStream);
+        }
+    }
+
+    private AddressBook readString(String json) throws Exception {
+        return JsonAddressBookReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @Test
+    public void write_typicalAddressBook_sameAsSerializableAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), writeToString(original));
+    }
+
+    @Test
+    public void write_emptyAddressBook_sameAsSerializableAddressBook() throws Exception {
+        AddressBook empty = new AddressBook();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(empty)), writeToString(empty));
+    }
+
+    @Test
+    public void write_thenRead_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        byte[] json = writeToString(original).getBytes(StandardCharsets.UTF_8);
+        assertEquals(original, JsonAddressBookReader.read(new ByteArrayInputStream(json)));
+    }
+
+    private String writeToString(ReadOnlyAddressBook addressBook) throws Exception {
+        ByteArrayOutputStream jsonStream = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(addressBook, jsonStream);
+        return jsonStream.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -5,12 +5,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -63,4 +66,45 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_MAX_SESSION_COUNT_REACHED,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_personsInSeveralChunks_keepsFileOrder() throws Exception {
+        List<JsonAdaptedPerson> persons = createInstructors(JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE * 5 + 3);
+
+        AddressBook addressBook = new JsonSerializableAddressBook(persons).toModelType();
+
+        assertEquals(persons.size(), addressBook.getPersonList().size());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i).toModelType(), addressBook.getPersonList().get(i));
+        }
+    }
+
+    @Test
+    public void toModelType_errorsInSeveralChunks_reportsFirstInFileOrder() {
+        int chunkSize = JsonSerializableAddressBook.CONVERSION_CHUNK_SIZE;
+        JsonAdaptedPerson invalidPerson = new JsonAdaptedPerson("Invalid Phone", "123", "invalid@example.com",
+                "instructor", null, null);
+
+        // invalid field before a duplicate
+        List<JsonAdaptedPerson> persons = createInstructors(chunkSize * 4);
+        persons.set(chunkSize + 1, invalidPerson);
+        persons.set(chunkSize * 3, persons.get(0));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                new JsonSerializableAddressBook(persons).toModelType());
+
+        // duplicate before an invalid field
+        persons.set(chunkSize + 1, persons.get(0));
+        persons.set(chunkSize * 3, invalidPerson);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonSerializableAddressBook(persons).toModelType());
+    }
+
+    private static List<JsonAdaptedPerson> createInstructors(int count) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new JsonAdaptedPerson("Instructor " + (char) ('A' + i % 26), String.valueOf(90000000 + i),
+                    "instructor" + i + "@example.com", "instructor", null, null));
+        }
+        return persons;
+    }
 }
@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing.shards")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.shards");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+
+        // modify data, overwrite the existing files, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.insertPerson(0, IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changeInOneSession_onlyThatShardWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.shards");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+        Set<String> shardsBefore = listShards(filePath);
+
+        // a storage that has read the files knows which shards are already on disk
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removePerson(ELLE);
+        readBack.addPerson(new PersonBuilder(ELLE).withPhone(BENSON.getPhone().value).build());
+        storage.saveAddressBook(readBack);
+
+        Set<String> shardsAfter = listShards(filePath);
+        assertEquals(shardsBefore.size(), shardsAfter.size());
+        Set<String> writtenShards = shardsAfter.stream().filter(shard -> !shardsBefore.contains(shard))
+                .collect(Collectors.toSet());
+        assertEquals(1, writtenShards.size());
+        assertEquals(ELLE.getSession().get().value, writtenShards.iterator().next().split("\\.")[0]);
+        assertEquals(readBack, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_sessionEmptied_shardDeleted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        int shardCount = listShards(filePath).size();
+
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+
+        assertEquals(shardCount - 1, listShards(filePath).size());
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_editedShard_validatedAgain() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.shards");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Path aliceShard = findShard(filePath, ALICE.getSession().get().value);
+        Files.writeString(aliceShard, Files.readString(aliceShard).replace(ALICE.getPhone().value, "123"));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_shardMissingFromOrder_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.shards");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String manifest = Files.readString(filePath);
+        Files.writeString(filePath, manifest.replaceFirst("\"size\" : 1", "\"size\" : 2"));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void splitIntoShards() {
+        Map<String, List<Person>> shardPersons = new LinkedHashMap<>();
+        List<Integer> order = new ArrayList<>();
+        ShardedAddressBookStorage.splitIntoShards(List.of(ALICE, CARL, DANIEL, HOON, BENSON), shardPersons, order);
+
+        // ALICE and HOON share a session, while CARL and DANIEL have none
+        assertEquals(List.of(ALICE, HOON), shardPersons.get(ALICE.getSession().get().value));
+        assertEquals(List.of(CARL, DANIEL), shardPersons.get(ShardedAddressBookStorage.NO_SESSION_SHARD_KEY));
+        assertEquals(List.of(BENSON), shardPersons.get(BENSON.getSession().get().value));
+        assertEquals(List.of(0, 1, 1, 2, 0, 1, 2, 1), order);
+    }
+
+    private static Set<String> listShards(Path filePath) throws IOException {
+        try (Stream<Path> shards = Files.list(ShardedAddressBookStorage.getShardDirectory(filePath))) {
+            return shards.map(shard -> shard.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    private static Path findShard(Path filePath, String key) throws IOException {
+        return listShards(filePath).stream()
+                .filter(shard -> shard.startsWith(key + "."))
+                .map(ShardedAddressBookStorage.getShardDirectory(filePath)::resolve)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.SqlAddressBookStorage.StoredRow;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new SqlAddressBookStorage(testFolder.resolve("missing.db")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.db");
+        AddressBook original = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack(filePath));
+
+        // modify data, update the existing rows, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.insertPerson(0, IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack(filePath));
+
+        // reordered -> all rows written again
+        original.removePerson(BENSON);
+        original.addPerson(BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack(filePath));
+        storage.closeAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_afterReading_updatesExistingRows() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.db");
+        save(getTypicalAddressBook(), filePath);
+
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removePerson(CARL);
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(readBack, readBack(filePath));
+        storage.closeAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_invalidRow_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.db");
+        save(getTypicalAddressBook(), filePath);
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + filePath.toAbsolutePath());
+                Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE persons SET phone = '123' WHERE name = '" + ALICE.getName().fullName + "'");
+        }
+
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+        storage.closeAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_afterClosing_reopensDatabase() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.db");
+        AddressBook original = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        storage.closeAddressBook();
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        storage.closeAddressBook();
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_pathWithUrlSettings_throwsIoException() {
+        Path filePath = testFolder.resolve("addressBook;INIT=CREATE TABLE injected(id INT)");
+        assertThrows(IOException.class, () -> new SqlAddressBookStorage(filePath)
+                .saveAddressBook(getTypicalAddressBook()));
+        assertFalse(Files.exists(SqlAddressBookStorage.getDatabaseFilePath(filePath)));
+    }
+
+    /**
+     * Saves {@code addressBook} to the database at {@code filePath} with a new storage, closing it afterwards.
+     */
+    private static void save(AddressBook addressBook, Path filePath) throws Exception {
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        storage.closeAddressBook();
+    }
+
+    /**
+     * Reads the database at {@code filePath} back with a new storage, closing it afterwards.
+     */
+    private static AddressBook readBack(Path filePath) throws Exception {
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.closeAddressBook();
+        return addressBook;
+    }
+
+    @Test
+    public void planRows() {
+        long gap = SqlAddressBookStorage.POSITION_GAP;
+        List<StoredRow> before = List.of(new StoredRow(gap, ALICE), new StoredRow(2 * gap, BENSON),
+                new StoredRow(3 * gap, CARL));
+
+        // one deleted, one inserted between kept rows and one appended -> kept rows keep their positions
+        List<StoredRow> rows = SqlAddressBookStorage.planRows(before, List.of(ALICE, DANIEL, CARL, HOON)).get();
+        assertEquals(List.of(ALICE, DANIEL, CARL, HOON),
+                rows.stream().map(StoredRow::getPerson).collect(Collectors.toList()));
+        assertEquals(List.of(gap, 2 * gap, 3 * gap, 4 * gap),
+                rows.stream().map(StoredRow::getPosition).collect(Collectors.toList()));
+
+        // reordered -> cannot be planned
+        assertTrue(SqlAddressBookStorage.planRows(before, List.of(BENSON, ALICE, CARL)).isEmpty());
+
+        // no gap left between neighbours -> cannot be planned
+        List<StoredRow> adjacent = List.of(new StoredRow(1, ALICE), new StoredRow(2, BENSON));
+        assertTrue(SqlAddressBookStorage.planRows(adjacent, List.<Person>of(ALICE, CARL, BENSON)).isEmpty());
+    }
+}
@@ -1,17 +1,27 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
@@ -60,6 +70,86 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void readAddressBook_damagedFile_recoversPreviousSave() throws Exception {
+        AddressBook previous = getTypicalAddressBook();
+        storageManager.saveAddressBook(previous);
+        AddressBook latest = getTypicalAddressBook();
+        latest.removePerson(ALICE);
+        storageManager.saveAddressBook(latest);
+
+        Files.writeString(getTempFilePath("ab"), "{\"persons\": [");
+        assertEquals(previous, new AddressBook(storageManager.readAddressBook().get()));
+
+        // no usable backup either -> the original failure is reported
+        Files.writeString(FileUtil.getBackupFilePath(getTempFilePath("ab")), "not json");
+        assertThrows(DataLoadingException.class, () -> storageManager.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_deletedFileWithBackup_emptyResult() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        storageManager.saveAddressBook(new AddressBook());
+
+        // the data file is present throughout a save, so a missing one was deleted on purpose
+        Files.delete(getTempFilePath("ab"));
+        assertFalse(storageManager.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBookInBackground_laterChanges_savesLatestSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBookInBackground(original, e -> {
+            throw new AssertionError("Saving should not fail.", e);
+        });
+        AddressBookSnapshot savedState = original.snapshot();
+
+        // changes after the request are not saved
+        original.removePerson(ALICE);
+        storageManager.flushAddressBook();
+        assertEquals(savedState, new AddressBook(storageManager.readAddressBook().get()).snapshot());
+    }
+
+    @Test
+    public void flushAddressBook_backgroundSaveFailed_throwsIoException() {
+        IOException failure = new IOException("dummy IO exception");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager failingStorageManager =
+                new StorageManager(failingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        List<IOException> reportedFailures = new ArrayList<>();
+
+        failingStorageManager.saveAddressBookInBackground(getTypicalAddressBook(), reportedFailures::add);
+        assertThrows(IOException.class, failure.getMessage(), failingStorageManager::flushAddressBook);
+        assertEquals(List.of(failure), reportedFailures);
+    }
+
+    @Test
+    public void flushAddressBook_backgroundSaveFailedThenSaved_noException() throws Exception {
+        List<IOException> failures = new ArrayList<>(List.of(new IOException("dummy IO exception")));
+        JsonAddressBookStorage flakyStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (!failures.isEmpty()) {
+                    throw failures.remove(0);
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager flakyStorageManager =
+                new StorageManager(flakyStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        flakyStorageManager.saveAddressBookInBackground(getTypicalAddressBook(), e -> { });
+        assertThrows(IOException.class, flakyStorageManager::flushAddressBook);
+
+        flakyStorageManager.saveAddressBook(getTypicalAddressBook());
+        flakyStorageManager.flushAddressBook();
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -3,10 +3,15 @@ package seedu.address.ui;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -61,6 +66,20 @@ public class MainWindowExportHelperTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public void loadAddressBook(Supplier<? extends ReadOnlyAddressBook> loader, Executor modelExecutor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ReadOnlyBooleanProperty loadingProperty() {
+            return new SimpleBooleanProperty(false);
+        }
+
+        @Override
+        public void setQueuedCommandResultHandler(Consumer<CommandResult> queuedCommandResultHandler) {
+        }
+
         @Override
         public CommandResult exportDisplayedContacts() throws CommandException {
             if (exportException != null) {
@@ -69,6 +88,10 @@ public class MainWindowExportHelperTest {
             return exportResult;
         }
 
+        @Override
+        public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return addressBook;
@@ -6,10 +6,15 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -122,6 +127,20 @@ public class MainWindowHandleExportTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public void loadAddressBook(Supplier<? extends ReadOnlyAddressBook> loader, Executor modelExecutor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ReadOnlyBooleanProperty loadingProperty() {
+            return new SimpleBooleanProperty(false);
+        }
+
+        @Override
+        public void setQueuedCommandResultHandler(Consumer<CommandResult> queuedCommandResultHandler) {
+        }
+
         @Override
         public CommandResult exportDisplayedContacts() throws CommandException {
             if (exportException != null) {
@@ -130,6 +149,10 @@ public class MainWindowHandleExportTest {
             return exportResult;
         }
 
+        @Override
+        public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return addressBook;